@@ -1,19 +1,26 @@
 package algorithms;
-import algorithms.mst.EdgeContext;
-import algorithms.mst.UnionFind;
+import algorithms.engine.AStarSearch;
+import algorithms.engine.GraphEngine;
+import algorithms.engine.Heuristic;
+import algorithms.engine.MSTResult;
+import algorithms.engine.PathResult;
+import algorithms.engine.TraversalResult;
+import algorithms.engine.VisualizerListener;
 import interfaces.IGraph;
 import interfaces.IVisualizer;
+import interfaces.VisitState;
 import java.util.*;
 
 /**
  * Clase pública de utilidad que contiene los algoritmos de recorrido.
- * Solo opera sobre las interfaces IGraph e IVisualizer.
+ * Solo opera sobre las interfaces IGraph e IVisualizer: cada {@code run*} prepara la vista y
+ * ejecuta el algoritmo de {@link GraphEngine} con un {@link VisualizerListener} que la anima.
  */
 public class GraphAlgorithms {
 
-    public static final int WHITE = 0;
-    public static final int GRAY = 1;
-    public static final int BLACK = 2;
+    public static final int WHITE = VisitState.WHITE;
+    public static final int GRAY = VisitState.GRAY;
+    public static final int BLACK = VisitState.BLACK;
 
     private static volatile boolean isPaused = false;
     private static final Object lock = new Object();
@@ -43,9 +50,10 @@ public class GraphAlgorithms {
     }
 
     /**
-     * Revisa si el algoritmo debe pausarse.
+     * Revisa si el algoritmo debe pausarse y, de ser así, bloquea el hilo actual
+     * hasta que se llame a {@link #resumeAlgorithm()}.
      */
-    private static void checkPause() {
+    public static void checkPause() {
         try {
             synchronized (lock) {
                 while (isPaused) {
@@ -59,7 +67,9 @@ public class GraphAlgorithms {
     }
 
     /**
-     * Inicia un recorrido DFS desde un nodo específico.
+     * Inicia un recorrido DFS desde un nodo específico. El recorrido lo hace
+     * {@link GraphEngine#dfs(IGraph, int, algorithms.engine.AlgorithmListener)}; la animación
+     * se obtiene conectándole un {@link VisualizerListener}.
      *
      * @param visual    El objeto de la GUI que implementa IVisualizer.
      * @param startNode El vértice donde comenzará el recorrido.
@@ -67,316 +77,65 @@ public class GraphAlgorithms {
     public static void runDFSFromNode(IVisualizer visual, int startNode) {
         if (isPaused) resumeAlgorithm();
         IGraph graph = visual.getGraph();
-        int vertex;
-        for (vertex = 0; vertex < graph.vertexCount(); vertex++) {
-            graph.setMark(vertex, WHITE);
-        }
-        visual.resetVisuals();
-        graph.setMark(startNode, GRAY);
+        VisitState marks = startRun(visual, graph);
         visual.pauseAndRedraw("Estado inicial. Iniciando en " + startNode, 1000);
-        DFS(visual, startNode);
-
-        System.out.println("Recorrido desde " + startNode + " completado.");
-    }
-
-    private static void DFS(IVisualizer visual, int vertex) {
-        IGraph graph = visual.getGraph();
-
-        graph.setMark(vertex, GRAY);
-        visual.pauseAndRedraw("Descubriendo (GRIS): " + vertex, 800);
-        checkPause();
 
-        for (int neighbor = graph.firstNeighbor(vertex); neighbor < graph.vertexCount(); neighbor = graph.nextNeighbor(vertex, neighbor)) {
-            if (graph.getMark(neighbor) == WHITE) {
-                visual.markEdge(vertex, neighbor, true);
-                visual.pauseAndRedraw("Arista (AZUL): " + vertex + " -> " + neighbor, 500);
-                checkPause();
+        TraversalResult result = GraphEngine.dfs(graph, startNode, new VisualizerListener(visual, marks));
 
-                DFS(visual, neighbor);
-            }
-        }
-
-        graph.setMark(vertex, BLACK);
-        visual.pauseAndRedraw("Terminando (NEGRO): " + vertex, 800);
-        checkPause();
+        visual.pauseAndRedraw("DFS Terminado. Nodos alcanzados: " + result.count, 0);
+        System.out.println("Recorrido desde " + startNode + " completado.");
     }
 
     public static void runBFSFromNode(IVisualizer visual, int startNode) {
         if (isPaused) resumeAlgorithm();
-
         IGraph graph = visual.getGraph();
-
-        for (int v = 0; v < graph.vertexCount(); v++) {
-            graph.setMark(v, WHITE);
-        }
-        visual.resetVisuals();
-
-        graph.setMark(startNode, GRAY);
-
+        VisitState marks = startRun(visual, graph);
         visual.pauseAndRedraw("Estado inicial (BFS). Inicio: " + startNode, 1000);
 
-        BFS(visual, startNode);
+        TraversalResult result = GraphEngine.bfs(graph, startNode, new VisualizerListener(visual, marks));
 
+        visual.pauseAndRedraw("BFS Terminado. Nodos alcanzados: " + result.count, 0);
         System.out.println("BFS desde " + startNode + " completado.");
     }
 
-    private static void BFS(IVisualizer visual, int startNode) {
-        IGraph graph = visual.getGraph();
-
-        Queue<Integer> q = new LinkedList<>();
-
-        q.add(startNode);
-        graph.setMark(startNode, GRAY);
-        visual.pauseAndRedraw("Encolando inicio: " + startNode, 800);
-        checkPause();
-
-        while (!q.isEmpty()) {
-            int v = q.poll();
-
-            for (int w = graph.firstNeighbor(v); w < graph.vertexCount(); w = graph.nextNeighbor(v, w)) {
-
-                if (graph.getMark(w) == WHITE) {
-
-                    graph.setMark(w, GRAY);
-                    visual.markEdge(v, w, true);
-                    visual.pauseAndRedraw("Visitando vecino: " + w + " (por " + v + ")", 500);
-                    checkPause();
-
-                    q.add(w);
-                }
-            }
-
-            graph.setMark(v, BLACK);
-            visual.pauseAndRedraw("Nodo procesado completamente: " + v, 500);
-            checkPause();
-        }
-    }
-
     public static int runKruskal(IVisualizer visual) {
         if (isPaused) resumeAlgorithm();
         IGraph graph = visual.getGraph();
-        int n = graph.vertexCount();
-
-        resetForMST(visual, graph);
+        VisitState marks = startRun(visual, graph);
         visual.pauseAndRedraw("Iniciando Kruskal. Ordenando aristas...", 1000);
 
-        List<EdgeContext> allEdges = new ArrayList<>();
-        for (int i = 0; i < n; i++) {
-            for (int j = i + 1; j < n; j++) {
-                if (graph.isEdge(i, j)) {
-                    allEdges.add(new EdgeContext(i, j, graph.weight(i, j)));
-                }
-            }
-        }
-        Collections.sort(allEdges);
-
-        UnionFind uf = new UnionFind(n);
-        int mstWeight = 0;
-        int edgesCount = 0;
-        List<String> selectedEdgesStr = new ArrayList<>();
-
-        for (EdgeContext edge : allEdges) {
-            int u = edge.source;
-            int v = edge.dest;
-
-            visual.markEdge(u, v, true);
-
-            boolean uWasBlack = (graph.getMark(u) == BLACK);
-            boolean vWasBlack = (graph.getMark(v) == BLACK);
-
-            if (!uWasBlack) graph.setMark(u, GRAY);
-            if (!vWasBlack) graph.setMark(v, GRAY);
+        MSTResult mst = GraphEngine.kruskal(graph, new TreeListener(visual, marks));
 
-            visual.pauseAndRedraw("Analizando conexión: " + u + " - " + v + " (Peso: " + edge.weight + ")", 600);
-            checkPause();
-
-            if (uf.union(u, v)) {
-                mstWeight += edge.weight;
-                edgesCount++;
-                selectedEdgesStr.add(edge.toString());
-                graph.setMark(u, BLACK);
-                graph.setMark(v, BLACK);
-
-                visual.pauseAndRedraw("ACEPTADA. Peso acumulado: " + mstWeight, 500);
-            } else {
-                visual.markEdge(u, v, false);
-                visual.pauseAndRedraw("RECHAZADA (Ciclo)", 300);
-            }
-
-            checkPause();
-
-            if (edgesCount == n - 1) break;
-        }
-
-        System.out.println("KRUSKAL FINALIZADO. Peso: " + mstWeight);
-        visual.pauseAndRedraw("Kruskal Terminado. Peso Total: " + mstWeight, 0);
-
-        return mstWeight;
+        System.out.println("KRUSKAL FINALIZADO. Peso: " + mst.totalWeight);
+        visual.pauseAndRedraw("Kruskal Terminado. Peso Total: " + mst.totalWeight, 0);
+        return mst.totalWeight;
     }
 
     public static int runPrim(IVisualizer visual, int startNode) {
         if (isPaused) resumeAlgorithm();
         IGraph graph = visual.getGraph();
         int n = graph.vertexCount();
-
-        resetForMST(visual, graph);
+        VisitState marks = startRun(visual, graph);
         visual.pauseAndRedraw("Iniciando Prim desde: " + startNode, 1000);
 
-        PriorityQueue<EdgeContext> pq = new PriorityQueue<>();
-        boolean[] inMST = new boolean[n];
-        int mstWeight = 0;
-
-        inMST[startNode] = true;
-        graph.setMark(startNode, BLACK);
-
-        addEdgesToPQ(visual, graph, startNode, pq, inMST);
-
-        visual.pauseAndRedraw("Inicio establecido. Frontera (Gris) lista.", 800);
-
-        while (!pq.isEmpty()) {
-            EdgeContext edge = pq.poll();
+        MSTResult mst = GraphEngine.prim(graph, startNode, new TreeListener(visual, marks));
 
-            if (inMST[edge.dest]) continue;
-
-            inMST[edge.dest] = true;
-            mstWeight += edge.weight;
-
-            visual.markEdge(edge.source, edge.dest, true);
-            graph.setMark(edge.dest, BLACK);
-
-            visual.pauseAndRedraw("Nodo " + edge.dest + " agregado. Total: " + mstWeight, 500);
-            checkPause();
-
-            addEdgesToPQ(visual, graph, edge.dest, pq, inMST);
-        }
-
-        visual.pauseAndRedraw("Prim Terminado. Peso Total: " + mstWeight, 0);
-        return mstWeight;
-    }
-
-    private static void addEdgesToPQ(IVisualizer visual, IGraph graph, int u, PriorityQueue<EdgeContext> pq, boolean[] inMST) {
-        boolean visualChange = false;
-
-        for (int v = graph.firstNeighbor(u); v < graph.vertexCount(); v = graph.nextNeighbor(u, v)) {
-            if (!inMST[v]) {
-                pq.add(new EdgeContext(u, v, graph.weight(u, v)));
-
-                if (graph.getMark(v) == WHITE) {
-                    graph.setMark(v, GRAY);
-                    visualChange = true;
-                }
-            }
-        }
-
-        if (visualChange) {
-            visual.pauseAndRedraw("Expandiendo frontera...", 300);
-            checkPause();
-        }
+        int treeSize = mst.edgeCount + 1;
+        String unreached = treeSize < n ? " (" + (n - treeSize) + " nodos fuera de la componente de " + startNode + ")" : "";
+        visual.pauseAndRedraw("Prim Terminado. Peso Total: " + mst.totalWeight + unreached, 0);
+        return mst.totalWeight;
     }
 
     public static int runBoruvka(IVisualizer visual) {
         if (isPaused) resumeAlgorithm();
         IGraph graph = visual.getGraph();
-
-        resetForMST(visual, graph);
+        VisitState marks = startRun(visual, graph);
         visual.pauseAndRedraw("Iniciando Boruvka (MST Global)...", 1000);
 
-        int n = graph.vertexCount();
-        UnionFind uf = new UnionFind(n);
-
-        List<EdgeContext> allEdges = new ArrayList<>();
-        for (int i = 0; i < n; i++) {
-            for (int j = i + 1; j < n; j++) {
-                if (graph.isEdge(i, j)) {
-                    allEdges.add(new EdgeContext(i, j, graph.weight(i, j)));
-                }
-            }
-        }
-
-        int mstWeight = 0;
-        int components = n;
-        int iteration = 1;
-
-        while (components > 1) {
-
-            visual.pauseAndRedraw(
-                    "Iteración " + iteration + " — Componentes actuales: " + components,
-                    800
-            );
-
-            EdgeContext[] cheapest = new EdgeContext[n];
-
-            for (EdgeContext e : allEdges) {
-                int setU = uf.find(e.source);
-                int setV = uf.find(e.dest);
-
-                if (setU == setV) continue;
+        MSTResult mst = GraphEngine.boruvka(graph, new TreeListener(visual, marks));
 
-                if (cheapest[setU] == null || e.weight < cheapest[setU].weight) {
-                    cheapest[setU] = e;
-                }
-                if (cheapest[setV] == null || e.weight < cheapest[setV].weight) {
-                    cheapest[setV] = e;
-                }
-            }
-
-            boolean anyMerged = false;
-
-            for (int i = 0; i < n; i++) {
-
-                if (uf.find(i) != i) continue;
-
-                EdgeContext e = cheapest[i];
-                if (e == null) continue;
-
-                int setU = uf.find(e.source);
-                int setV = uf.find(e.dest);
-
-                if (setU != setV) {
-
-                    if (uf.union(setU, setV)) {
-
-                        anyMerged = true;
-                        components--;
-                        mstWeight += e.weight;
-                        graph.setMark(e.source, BLACK);
-                        graph.setMark(e.dest, BLACK);
-                        visual.markEdge(e.source, e.dest, true);
-
-                        visual.pauseAndRedraw(
-                                "Agregando arista " + e + " (peso " + e.weight + ") al MST",
-                                500
-                        );
-                        checkPause();
-                    }
-                }
-            }
-            if (!anyMerged) {
-                visual.pauseAndRedraw("No se pueden unir más componentes. Finalizando...", 800);
-                break;
-            }
-            iteration++;
-        }
-        visual.pauseAndRedraw("Boruvka Terminado — Peso Total: " + mstWeight, 0);
-        return mstWeight;
-    }
-
-
-
-
-    static class NodeDist implements Comparable<NodeDist> {
-        int node;
-        int dist;
-
-        NodeDist(int node, int dist) {
-            this.node = node;
-            this.dist = dist;
-        }
-
-        @Override
-        public int compareTo(NodeDist other) {
-            return Integer.compare(this.dist, other.dist);
-        }
+        visual.pauseAndRedraw("Boruvka Terminado — Peso Total: " + mst.totalWeight, 0);
+        return mst.totalWeight;
     }
 
     public static class ShortestPathResult {
@@ -389,244 +148,225 @@ public class GraphAlgorithms {
         }
     }
 
+    /**
+     * Dijkstra visual desde {@code startNode} hasta {@code endNode} con
+     * {@link GraphEngine#dijkstra(IGraph, int, int, algorithms.engine.AlgorithmListener)}.
+     * Se toma una instantánea de las distancias tras cada mejora. Las aristas negativas se ignoran.
+     */
     public static ShortestPathResult runDijkstraWithEvolution(IVisualizer visual, int startNode, int endNode) {
         if (isPaused) resumeAlgorithm();
-
         IGraph graph = visual.getGraph();
-        int n = graph.vertexCount();
-
-        if (startNode < 0 || startNode >= n || endNode < 0 || endNode >= n) {
-            visual.pauseAndRedraw("Error: Nodos fuera de rango.", 0);
+        if (!inRange(visual, graph, startNode, endNode)) {
             return new ShortestPathResult(Integer.MAX_VALUE, Collections.emptyList());
         }
 
-        resetForMST(visual, graph);
-
+        VisitState marks = startRun(visual, graph);
         visual.pauseAndRedraw(
                 "Iniciando Dijkstra desde nodo " + startNode + " hasta nodo " + endNode, 1000);
 
-        int[] dist = new int[n];
-        int[] parent = new int[n];
-
-        Arrays.fill(dist, Integer.MAX_VALUE);
-        Arrays.fill(parent, -1);
-
-        dist[startNode] = 0;
-        graph.setMark(startNode, GRAY);
-        visual.pauseAndRedraw("Marcando nodo inicial " + startNode + " como gris.", 200);
-
-        PriorityQueue<NodeDist> pq = new PriorityQueue<>();
-        pq.add(new NodeDist(startNode, 0));
-
-        graph.setMark(startNode, GRAY);
-
-        List<int[]> snapshots = new ArrayList<>();
-        snapshots.add(Arrays.copyOf(dist, n));
-
-        while (!pq.isEmpty()) {
-            NodeDist current = pq.poll();
-            int u = current.node;
-
-            if (current.dist > dist[u]) continue;
-
-            visual.pauseAndRedraw(
-                    "Procesando nodo " + u + " (Distancia actual: " + dist[u] + ")", 500);
-            checkPause();
+        EvolutionListener listener = new EvolutionListener(visual, marks, graph.vertexCount(), startNode, false);
+        PathResult result = GraphEngine.dijkstra(graph, startNode, endNode, listener);
 
-            if (u == endNode) {
-                visual.pauseAndRedraw("¡Destino " + endNode + " alcanzado!", 1000);
-                break;
-            }
-
-            for (int v = graph.firstNeighbor(u); v < n; v = graph.nextNeighbor(u, v)) {
-
-                int weight = graph.weight(u, v);
-
-                if (weight < 0) {
-                    System.err.println("Advertencia: Arista negativa en Dijkstra. Resultados no garantizados.");
-                    continue;
-                }
-
-                if (dist[u] != Integer.MAX_VALUE && dist[u] + weight < dist[v]) {
-                    dist[v] = dist[u] + weight;
-                    parent[v] = u;
-
-                    pq.add(new NodeDist(v, dist[v]));
-
-                    graph.setMark(v, GRAY);
-                    visual.markEdge(u, v, true);
-
-                    visual.pauseAndRedraw(
-                            "  -> Actualizando vecino " + v + ". Nueva dist: " + dist[v], 300);
-                    checkPause();
-
-                    visual.markEdge(u, v, false);
-
-                    snapshots.add(Arrays.copyOf(dist, n));
-                }
-            }
-        }
-
-        if (dist[endNode] == Integer.MAX_VALUE) {
+        if (!result.isReachable()) {
             visual.pauseAndRedraw("Dijkstra completado. Nodo destino inalcanzable.", 0);
-            return new ShortestPathResult(Integer.MAX_VALUE, snapshots);
+            return new ShortestPathResult(Integer.MAX_VALUE, listener.snapshots);
         }
 
-        List<Integer> path = new ArrayList<>();
-        for (int cur = endNode; cur != -1; cur = parent[cur]) {
-            path.add(cur);
+        showPath(visual, marks, result.path(), "Camino Óptimo: ");
+        visual.pauseAndRedraw("Dijkstra Finalizado. Costo Total: " + result.distance, 0);
+        listener.snapshot();
+        return new ShortestPathResult(result.distance, listener.snapshots);
+    }
+
+    /**
+     * A* visual desde {@code startNode} hasta {@code endNode}. La búsqueda la hace
+     * {@link AStarSearch}; la animación se obtiene conectándole un {@link VisualizerListener}.
+     *
+     * @param heuristic cota inferior de la distancia restante (por ejemplo, {@link algorithms.engine.GeoHeuristic})
+     */
+    public static ShortestPathResult runAStarWithEvolution(IVisualizer visual, int startNode, int endNode, Heuristic heuristic) {
+        if (isPaused) resumeAlgorithm();
+        IGraph graph = visual.getGraph();
+        if (!inRange(visual, graph, startNode, endNode)) {
+            return new ShortestPathResult(Integer.MAX_VALUE, Collections.emptyList());
         }
-        Collections.reverse(path);
 
-        visual.resetVisuals();
+        VisitState marks = startRun(visual, graph);
+        visual.pauseAndRedraw(
+                "Iniciando A* desde nodo " + startNode + " hasta nodo " + endNode
+                        + " (estimación inicial: " + heuristic.estimate(startNode, endNode) + ")", 1000);
 
-        for (int nodeId : path) graph.setMark(nodeId, BLACK);
+        AStarSearch search = new AStarSearch(graph.vertexCount());
+        search.setListener(new VisualizerListener(visual, marks));
+        int distance = search.run(graph, startNode, endNode, heuristic);
 
-        for (int i = 0; i < path.size() - 1; i++) {
-            int a = path.get(i);
-            int b = path.get(i + 1);
-            visual.markEdge(a, b, true);
-            visual.pauseAndRedraw("Camino Óptimo: " + a + " -> " + b, 300);
-            checkPause();
+        if (distance == Integer.MAX_VALUE) {
+            visual.pauseAndRedraw("A* completado. Nodo destino inalcanzable.", 0);
+            return new ShortestPathResult(Integer.MAX_VALUE, Collections.emptyList());
         }
 
+        showPath(visual, marks, search.path(endNode), "Camino Óptimo: ");
         visual.pauseAndRedraw(
-                "Dijkstra Finalizado. Costo Total: " + dist[endNode], 0);
-
-        snapshots.add(Arrays.copyOf(dist, n));
-        return new ShortestPathResult(dist[endNode], snapshots);
+                "A* Finalizado. Costo Total: " + distance + " (nodos expandidos: " + search.settledCount() + ")", 0);
+        return new ShortestPathResult(distance, Collections.emptyList());
     }
 
+    /**
+     * Bellman-Ford visual desde {@code startNode} hasta {@code endNode} con
+     * {@link GraphEngine#bellmanFord(IGraph, int, int, algorithms.engine.AlgorithmListener)}.
+     * Se toma una instantánea de las distancias al terminar cada iteración; si hay un ciclo
+     * negativo alcanzable se marca y el resultado es {@code Integer.MIN_VALUE}.
+     */
     public static ShortestPathResult runBellmanFordWithEvolution(IVisualizer visual, int startNode, int endNode) {
         if (isPaused) resumeAlgorithm();
-
         IGraph graph = visual.getGraph();
-        int n = graph.vertexCount();
-
-        resetForMST(visual, graph);
+        if (!inRange(visual, graph, startNode, endNode)) {
+            return new ShortestPathResult(Integer.MAX_VALUE, Collections.emptyList());
+        }
 
+        VisitState marks = startRun(visual, graph);
         visual.pauseAndRedraw(
                 "Iniciando Bellman-Ford: calculando distancias desde nodo "
                         + startNode + " hasta " + endNode, 1000);
 
-        int[] dist = new int[n];
-        int[] parent = new int[n];
-        Arrays.fill(dist, Integer.MAX_VALUE);
-        Arrays.fill(parent, -1);
+        EvolutionListener listener = new EvolutionListener(visual, marks, graph.vertexCount(), startNode, true);
+        PathResult result = GraphEngine.bellmanFord(graph, startNode, endNode, listener);
+        listener.snapshot();
 
-        dist[startNode] = 0;
-        graph.setMark(startNode, GRAY);
-
-        List<EdgeContext> edges = new ArrayList<>();
-        for (int u = 0; u < n; u++) {
-            for (int v = graph.firstNeighbor(u); v < n; v = graph.nextNeighbor(u, v)) {
-                edges.add(new EdgeContext(u, v, graph.weight(u, v)));
+        if (result.hasNegativeCycle()) {
+            int[] cycle = result.negativeCycle;
+            restartRun(visual, marks);
+            for (int i = 0; i < cycle.length; i++) {
+                marks.set(cycle[i], GRAY);
+                visual.markEdge(cycle[i], cycle[(i + 1) % cycle.length], true);
             }
+            visual.pauseAndRedraw("¡ERROR! Ciclo negativo detectado. No existe solución.", 2000);
+            return new ShortestPathResult(Integer.MIN_VALUE, listener.snapshots);
         }
 
-        List<int[]> snapshots = new ArrayList<>();
-        snapshots.add(Arrays.copyOf(dist, n));
-
-        for (int iter = 1; iter < n; iter++) {
-
-            visual.pauseAndRedraw("Iteración " + iter + " de relajación...", 500);
-            checkPause();
-
-            boolean changed = false;
-
-            for (EdgeContext e : edges) {
-                int u = e.source;
-                int v = e.dest;
-                int w = e.weight;
-
-                if (dist[u] != Integer.MAX_VALUE && dist[u] + w < dist[v]) {
-                    dist[v] = dist[u] + w;
-                    parent[v] = u;
-                    changed = true;
+        if (!result.isReachable()) {
+            visual.pauseAndRedraw("Bellman-Ford completado. Destino inalcanzable.", 0);
+            return new ShortestPathResult(Integer.MAX_VALUE, listener.snapshots);
+        }
 
-                    graph.setMark(v, GRAY);
-                    visual.markEdge(u, v, true);
-                    visual.pauseAndRedraw(
-                            "Mejora encontrada: " + u + " -> " + v
-                                    + " (Nueva dist: " + dist[v] + ")", 300);
-                    checkPause();
+        showPath(visual, marks, result.path(), "Ruta Final: ");
+        visual.pauseAndRedraw("Fin. Distancia mínima: " + result.distance, 0);
+        return new ShortestPathResult(result.distance, listener.snapshots);
+    }
 
-                    visual.markEdge(u, v, false);
-                }
-            }
 
-            snapshots.add(Arrays.copyOf(dist, n));
+    public static int runDijkstra(IVisualizer visual, int startNode, int endNode) {
+        return runDijkstraWithEvolution(visual, startNode, endNode).finalDistance;
+    }
 
-            if (!changed) {
-                visual.pauseAndRedraw("Convergencia alcanzada en iteración " + iter + ".", 800);
-                break;
-            }
-        }
+    public static int runBellmanFord(IVisualizer visual, int startNode, int endNode) {
+        return runBellmanFordWithEvolution(visual, startNode, endNode).finalDistance;
+    }
 
-        for (EdgeContext e : edges) {
-            int u = e.source;
-            int v = e.dest;
-            int w = e.weight;
-            if (dist[u] != Integer.MAX_VALUE && dist[u] + w < dist[v]) {
-                visual.pauseAndRedraw("¡ERROR! Ciclo negativo detectado. No existe solución.", 2000);
-                return new ShortestPathResult(Integer.MIN_VALUE, snapshots);
-            }
+    private static boolean inRange(IVisualizer visual, IGraph graph, int startNode, int endNode) {
+        int n = graph.vertexCount();
+        if (startNode < 0 || startNode >= n || endNode < 0 || endNode >= n) {
+            visual.pauseAndRedraw("Error: Nodos fuera de rango.", 0);
+            return false;
         }
+        return true;
+    }
 
-        if (dist[endNode] == Integer.MAX_VALUE) {
-            visual.pauseAndRedraw("Bellman-Ford completado. Destino inalcanzable.", 0);
-            return new ShortestPathResult(Integer.MAX_VALUE, snapshots);
-        }
+    /**
+     * Limpia la vista y dibuja la ruta final arista por arista.
+     */
+    private static void showPath(IVisualizer visual, VisitState marks, int[] path, String label) {
+        restartRun(visual, marks);
+        for (int nodeId : path) marks.set(nodeId, BLACK);
 
-        List<Integer> path = new ArrayList<>();
-        for (int cur = endNode; cur != -1; cur = parent[cur]) {
-            path.add(cur);
+        for (int i = 0; i < path.length - 1; i++) {
+            visual.markEdge(path[i], path[i + 1], true);
+            visual.pauseAndRedraw(label + path[i] + " -> " + path[i + 1], 300);
+            checkPause();
         }
-        Collections.reverse(path);
+    }
 
-        for (int nodeId : path) {
-            graph.setMark(nodeId, BLACK);
-        }
+    /**
+     * Reinicia la vista y le suscribe un estado de visita nuevo, propio de esta ejecución.
+     */
+    private static VisitState startRun(IVisualizer visual, IGraph graph) {
+        VisitState marks = new VisitState(graph.vertexCount());
+        visual.resetVisuals();
+        visual.attachVisitState(marks);
+        return marks;
+    }
 
+    /**
+     * Limpia la vista a mitad de la ejecución (p. ej. antes de dibujar la ruta final)
+     * conservando la suscripción al estado de visita de la ejecución.
+     */
+    private static void restartRun(IVisualizer visual, VisitState marks) {
+        marks.reset();
         visual.resetVisuals();
-        for(int nodeId : path) graph.setMark(nodeId, BLACK);
+        visual.attachVisitState(marks);
+    }
 
-        for (int i = 0; i < path.size() - 1; i++) {
-            int a = path.get(i);
-            int b = path.get(i + 1);
-            visual.markEdge(a, b, true);
-            visual.pauseAndRedraw("Ruta Final: " + a + " -> " + b, 300);
-            checkPause();
+    /**
+     * {@link VisualizerListener} para los algoritmos de MST: pinta de gris los extremos de la
+     * arista en evaluación y de negro los de cada arista aceptada.
+     */
+    private static final class TreeListener extends VisualizerListener {
+        private final VisitState marks;
+
+        TreeListener(IVisualizer visual, VisitState marks) {
+            super(visual, marks);
+            this.marks = marks;
         }
 
-        visual.pauseAndRedraw(
-                "Fin. Distancia mínima: " + dist[endNode], 0);
+        @Override
+        public void edgeExamined(int u, int v, int weight) {
+            if (marks.get(u) != BLACK) marks.set(u, GRAY);
+            if (marks.get(v) != BLACK) marks.set(v, GRAY);
+            super.edgeExamined(u, v, weight);
+        }
 
-        snapshots.add(Arrays.copyOf(dist, n));
-        return new ShortestPathResult(dist[endNode], snapshots);
+        @Override
+        public void edgeAccepted(int u, int v, int weight) {
+            marks.set(u, BLACK);
+            marks.set(v, BLACK);
+            super.edgeAccepted(u, v, weight);
+        }
     }
 
+    /**
+     * {@link VisualizerListener} que además reconstruye el arreglo de distancias a partir de
+     * {@code distanceImproved} y guarda sus instantáneas para {@link ShortestPathResult#snapshots}:
+     * tras cada mejora o, con {@code perIteration}, al cerrar cada iteración.
+     */
+    private static final class EvolutionListener extends VisualizerListener {
+        final List<int[]> snapshots = new ArrayList<>();
+        private final int[] dist;
+        private final boolean perIteration;
+
+        EvolutionListener(IVisualizer visual, VisitState marks, int n, int source, boolean perIteration) {
+            super(visual, marks);
+            this.dist = new int[n];
+            this.perIteration = perIteration;
+            Arrays.fill(dist, Integer.MAX_VALUE);
+            dist[source] = 0;
+            snapshot();
+        }
 
-    public static int runDijkstra(IVisualizer visual, int startNode, int endNode) {
-        return runDijkstraWithEvolution(visual, startNode, endNode).finalDistance;
-    }
-
-    public static int runBellmanFord(IVisualizer visual, int startNode, int endNode) {
-        return runBellmanFordWithEvolution(visual, startNode, endNode).finalDistance;
-    }
+        @Override
+        public void distanceImproved(int u, int v, int distance) {
+            super.distanceImproved(u, v, distance);
+            dist[v] = distance;
+            if (!perIteration) snapshot();
+        }
 
-    private static void addEdgesToPQ(IGraph graph, int u, PriorityQueue<EdgeContext> pq, boolean[] inMST) {
-        for (int v = graph.firstNeighbor(u); v < graph.vertexCount(); v = graph.nextNeighbor(u, v)) {
-            if (!inMST[v]) {
-                pq.add(new EdgeContext(u, v, graph.weight(u, v)));
-            }
+        @Override
+        public void iterationStarted(int iteration) {
+            if (perIteration && iteration > 1) snapshot();
+            super.iterationStarted(iteration);
         }
-    }
 
-    private static void resetForMST(IVisualizer visual, IGraph graph) {
-        for (int v = 0; v < graph.vertexCount(); v++) {
-            graph.setMark(v, WHITE);
+        void snapshot() {
+            snapshots.add(Arrays.copyOf(dist, dist.length));
         }
-        visual.resetVisuals();
     }
 }
@@ -0,0 +1,30 @@
+package algorithms.ch;
+
+import java.util.Arrays;
+
+/**
+ * Lista creciente de arcos (fila, destino, peso, intermedio) en arreglos primitivos,
+ * usada para reunir los arcos de la jerarquía a medida que se contraen los vértices.
+ */
+final class ArcList {
+    int[] row = new int[64];
+    int[] target = new int[64];
+    int[] weight = new int[64];
+    int[] middle = new int[64];
+    int size;
+
+    void add(int r, int t, int w, int m) {
+        if (size == row.length) {
+            int capacity = size * 2;
+            row = Arrays.copyOf(row, capacity);
+            target = Arrays.copyOf(target, capacity);
+            weight = Arrays.copyOf(weight, capacity);
+            middle = Arrays.copyOf(middle, capacity);
+        }
+        row[size] = r;
+        target[size] = t;
+        weight[size] = w;
+        middle[size] = m;
+        size++;
+    }
+}
@@ -0,0 +1,248 @@
+package algorithms.ch;
+
+import interfaces.IGraph;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Preprocesamiento de Contraction Hierarchies sobre cualquier {@link IGraph} dirigido con pesos positivos.
+ * <p>
+ * Algoritmo:
+ * - Prioridad de cada vértice = diferencia de aristas (atajos necesarios - arcos eliminados)
+ *   + número de vecinos ya contraídos, para repartir la contracción de forma uniforme.
+ * - En cada ronda se contrae en paralelo un conjunto independiente de vértices: los que tienen
+ *   prioridad mínima (desempate por índice) entre sus vecinos activos.
+ * - Al contraer v, por cada par (u -> v -> w) se hace una búsqueda de testigos desde u que evita
+ *   v y los demás vértices de la ronda; si no hay una ruta igual o más corta se agrega el atajo
+ *   u -> w. Las búsquedas que exceden el límite de vértices agregan el atajo por seguridad.
+ * - Los arcos que le quedan a v (todos hacia vecinos aún activos, que tendrán mayor rango) pasan
+ *   a la jerarquía y v se desconecta del grafo de trabajo.
+ * - Después se recalculan en paralelo las prioridades de los vecinos afectados.
+ * <p>
+ * Las búsquedas de testigos y el cálculo de prioridades corren en el ForkJoinPool común, con un
+ * {@link WitnessSearch} por trabajador que vive solo durante {@link #contract(IGraph)}; la
+ * inserción de atajos es secuencial. Los arcos de peso no positivo y los lazos se ignoran.
+ */
+public class CHBuilder {
+    /** Vértices asentados como máximo por búsqueda de testigos. */
+    private static final int DEFAULT_SETTLE_LIMIT = 500;
+    /** Vértices que toma a la vez cada trabajador en las fases paralelas. */
+    private static final int CHUNK = 64;
+
+    private final int settleLimit;
+
+    public CHBuilder() {
+        this(DEFAULT_SETTLE_LIMIT);
+    }
+
+    /**
+     * @param settleLimit vértices asentados como máximo por búsqueda de testigos; un límite menor
+     *                    acelera el preprocesamiento a cambio de más atajos
+     */
+    public CHBuilder(int settleLimit) {
+        this.settleLimit = settleLimit;
+    }
+
+    /**
+     * Construye la jerarquía de un grafo.
+     */
+    public static ContractionHierarchy build(IGraph graph) {
+        return new CHBuilder().contract(graph);
+    }
+
+    /**
+     * Contrae todos los vértices de {@code graph} y devuelve la jerarquía resultante.
+     */
+    public ContractionHierarchy contract(IGraph graph) {
+        DynamicGraph g = new DynamicGraph(graph);
+        int n = g.n;
+        int[] rank = new int[n];
+        int[] priority = new int[n];
+        int[] deletedNeighbors = new int[n];
+        WitnessSearch[] searches = new WitnessSearch[ForkJoinPool.getCommonPoolParallelism()];
+
+        int[] remaining = IntStream.range(0, n).toArray();
+        parallelFor(n, searches, n, (v, search) ->
+                priority[v] = priority(g, v, deletedNeighbors, search));
+
+        int nextRank = 0;
+        boolean[] affected = new boolean[n];
+        int[] stamp = new int[n];
+        int[] touched = new int[n];
+        ArcList upward = new ArcList();
+        ArcList downward = new ArcList();
+        while (remaining.length > 0) {
+            int[] batch = IntStream.of(remaining).parallel()
+                    .filter(v -> isLocalMinimum(g, v, priority))
+                    .toArray();
+            for (int v : batch) g.state[v] = DynamicGraph.SELECTED;
+
+            int[][] shortcuts = new int[batch.length][];
+            parallelFor(batch.length, searches, n, (i, search) ->
+                    shortcuts[i] = shortcuts(g, batch[i], -1, search));
+
+            for (int i = 0; i < batch.length; i++) {
+                int v = batch[i];
+                int[] s = shortcuts[i];
+                for (int k = 0; k < s.length; k += 3) {
+                    g.addArc(s[k], s[k + 1], s[k + 2], v);
+                }
+                g.state[v] = DynamicGraph.CONTRACTED;
+                rank[v] = nextRank++;
+                for (int k = 0; k < g.outSize[v]; k++) {
+                    upward.add(v, g.outTarget[v][k], g.outWeight[v][k], g.outMiddle[v][k]);
+                }
+                for (int k = 0; k < g.inSize[v]; k++) {
+                    downward.add(v, g.inSource[v][k], g.inWeight[v][k], g.inMiddle[v][k]);
+                }
+                markNeighbors(g, v, deletedNeighbors, affected, stamp);
+                g.removeVertex(v);
+            }
+
+            int touchedCount = 0;
+            for (int v : batch) touchedCount = collectAffected(g, v, affected, touched, touchedCount);
+            parallelFor(touchedCount, searches, n, (i, search) -> {
+                int v = touched[i];
+                priority[v] = priority(g, v, deletedNeighbors, search);
+            });
+
+            remaining = Arrays.stream(remaining).filter(g::isActive).toArray();
+        }
+        return ContractionHierarchy.fromArcs(n, rank, upward, downward);
+    }
+
+    /**
+     * Tarea de una fase paralela: procesa el índice i con la búsqueda de testigos del trabajador.
+     */
+    private interface SearchTask {
+        void run(int i, WitnessSearch search);
+    }
+
+    /**
+     * Ejecuta {@code task} para cada i en [0, size) con a lo sumo {@code searches.length} trabajadores
+     * del ForkJoinPool común. Cada trabajador toma bloques de {@value #CHUNK} índices de un contador
+     * compartido y usa siempre su propia entrada de {@code searches}, que se crea en su primer uso.
+     */
+    private static void parallelFor(int size, WitnessSearch[] searches, int n, SearchTask task) {
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(searches.length, (size + CHUNK - 1) / CHUNK);
+        IntStream.range(0, workers).parallel().forEach(w -> {
+            if (searches[w] == null) searches[w] = new WitnessSearch(n);
+            WitnessSearch search = searches[w];
+            for (int start = next.getAndAdd(CHUNK); start < size; start = next.getAndAdd(CHUNK)) {
+                for (int i = start, end = Math.min(size, start + CHUNK); i < end; i++) task.run(i, search);
+            }
+        });
+    }
+
+    /**
+     * Pasa a {@code touched} los vecinos marcados de v (ya desconectado, pero con sus listas
+     * intactas) y limpia su marca.
+     */
+    private static int collectAffected(DynamicGraph g, int v, boolean[] affected, int[] touched, int count) {
+        for (int i = 0; i < g.outSize[v]; i++) {
+            int w = g.outTarget[v][i];
+            if (affected[w]) {
+                affected[w] = false;
+                touched[count++] = w;
+            }
+        }
+        for (int i = 0; i < g.inSize[v]; i++) {
+            int u = g.inSource[v][i];
+            if (affected[u]) {
+                affected[u] = false;
+                touched[count++] = u;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Cuenta a v como vecino contraído de cada vecino activo (una vez aunque haya arcos en
+     * ambos sentidos) y los marca para recalcular su prioridad.
+     */
+    private static void markNeighbors(DynamicGraph g, int v, int[] deletedNeighbors, boolean[] affected, int[] stamp) {
+        for (int i = 0; i < g.outSize[v]; i++) {
+            markNeighbor(g, v, g.outTarget[v][i], deletedNeighbors, affected, stamp);
+        }
+        for (int i = 0; i < g.inSize[v]; i++) {
+            markNeighbor(g, v, g.inSource[v][i], deletedNeighbors, affected, stamp);
+        }
+    }
+
+    private static void markNeighbor(DynamicGraph g, int v, int w, int[] deletedNeighbors, boolean[] affected, int[] stamp) {
+        if (!g.isActive(w) || stamp[w] == v + 1) return;
+        stamp[w] = v + 1;
+        deletedNeighbors[w]++;
+        affected[w] = true;
+    }
+
+    /**
+     * v entra a la ronda si ningún vecino activo lo precede en el orden (prioridad, índice);
+     * como el orden es total, dos vértices adyacentes nunca se contraen en la misma ronda.
+     */
+    private static boolean isLocalMinimum(DynamicGraph g, int v, int[] priority) {
+        for (int i = 0; i < g.outSize[v]; i++) {
+            if (precedes(g, g.outTarget[v][i], v, priority)) return false;
+        }
+        for (int i = 0; i < g.inSize[v]; i++) {
+            if (precedes(g, g.inSource[v][i], v, priority)) return false;
+        }
+        return true;
+    }
+
+    private static boolean precedes(DynamicGraph g, int x, int v, int[] priority) {
+        return x != v && g.isActive(x)
+                && (priority[x] < priority[v] || (priority[x] == priority[v] && x < v));
+    }
+
+    private int priority(DynamicGraph g, int v, int[] deletedNeighbors, WitnessSearch search) {
+        int removed = 0;
+        for (int i = 0; i < g.outSize[v]; i++) if (g.isActive(g.outTarget[v][i])) removed++;
+        for (int i = 0; i < g.inSize[v]; i++) if (g.isActive(g.inSource[v][i])) removed++;
+        int added = shortcuts(g, v, v, search).length / 3;
+        return added - removed + deletedNeighbors[v];
+    }
+
+    /**
+     * Calcula los atajos necesarios para contraer v como tripletas (u, w, peso).
+     *
+     * @param skip vértice a evitar en las búsquedas de testigos además de los inactivos
+     *             (v al simular; -1 al contraer, cuando v ya está marcado como seleccionado)
+     */
+    private int[] shortcuts(DynamicGraph g, int v, int skip, WitnessSearch search) {
+        int[] out = new int[0];
+        int size = 0;
+        for (int i = 0; i < g.inSize[v]; i++) {
+            int u = g.inSource[v][i];
+            if (!g.isActive(u)) continue;
+            int cuv = g.inWeight[v][i];
+
+            int maxDistance = -1;
+            for (int j = 0; j < g.outSize[v]; j++) {
+                int w = g.outTarget[v][j];
+                int c = cuv + g.outWeight[v][j];
+                // Con pesos positivos, c < cuv solo ocurre si la suma desborda: esa ruta no cabe en
+                // un int, igual que en la consulta, y no genera atajo.
+                if (w != u && g.isActive(w) && c >= cuv) maxDistance = Math.max(maxDistance, c);
+            }
+            if (maxDistance < 0) continue;
+
+            search.run(g, u, skip, maxDistance, settleLimit);
+            for (int j = 0; j < g.outSize[v]; j++) {
+                int w = g.outTarget[v][j];
+                int c = cuv + g.outWeight[v][j];
+                if (w == u || !g.isActive(w) || c < cuv) continue;
+                if (search.distance(w) > c) {
+                    if (size + 3 > out.length) out = Arrays.copyOf(out, Math.max(12, out.length * 2));
+                    out[size++] = u;
+                    out[size++] = w;
+                    out[size++] = c;
+                }
+            }
+        }
+        return size == out.length ? out : Arrays.copyOf(out, size);
+    }
+}
@@ -0,0 +1,199 @@
+package algorithms.ch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Jerarquía de contracción ya construida: el orden (rango) de cada vértice y dos grafos
+ * "hacia arriba" en formato CSR, sin objetos por arista.
+ * <p>
+ * - Grafo hacia adelante: en la fila u, los arcos u -> w con rank[w] > rank[u].
+ * - Grafo hacia atrás: en la fila u, los arcos x -> u con rank[x] > rank[u] (guardados como u -> x).
+ * Cada arco guarda el vértice intermedio del atajo que representa, o -1 si es una carretera original,
+ * para poder desempacar las rutas. Las filas están ordenadas por destino.
+ * <p>
+ * Es inmutable y se puede compartir entre hilos; se guarda y se carga con {@link #save(Path)} / {@link #load(Path)}
+ * para construirla una sola vez (con {@link CHBuilder}) y reutilizarla.
+ */
+public class ContractionHierarchy {
+    private static final int MAGIC = 0x43484731; // "CHG1"
+
+    final int n;
+    final int[] rank;
+    final int[] fwdOffsets;
+    final int[] fwdTargets;
+    final int[] fwdWeights;
+    final int[] fwdMiddle;
+    final int[] bwdOffsets;
+    final int[] bwdTargets;
+    final int[] bwdWeights;
+    final int[] bwdMiddle;
+
+    private ContractionHierarchy(int n, int[] rank,
+                                 int[] fwdOffsets, int[] fwdTargets, int[] fwdWeights, int[] fwdMiddle,
+                                 int[] bwdOffsets, int[] bwdTargets, int[] bwdWeights, int[] bwdMiddle) {
+        this.n = n;
+        this.rank = rank;
+        this.fwdOffsets = fwdOffsets;
+        this.fwdTargets = fwdTargets;
+        this.fwdWeights = fwdWeights;
+        this.fwdMiddle = fwdMiddle;
+        this.bwdOffsets = bwdOffsets;
+        this.bwdTargets = bwdTargets;
+        this.bwdWeights = bwdWeights;
+        this.bwdMiddle = bwdMiddle;
+    }
+
+    static ContractionHierarchy fromArcs(int n, int[] rank, ArcList upward, ArcList downward) {
+        int[] fwdOffsets = new int[n + 1];
+        int[] fwdTargets = new int[upward.size];
+        int[] fwdWeights = new int[upward.size];
+        int[] fwdMiddle = new int[upward.size];
+        toRows(n, upward, fwdOffsets, fwdTargets, fwdWeights, fwdMiddle);
+
+        int[] bwdOffsets = new int[n + 1];
+        int[] bwdTargets = new int[downward.size];
+        int[] bwdWeights = new int[downward.size];
+        int[] bwdMiddle = new int[downward.size];
+        toRows(n, downward, bwdOffsets, bwdTargets, bwdWeights, bwdMiddle);
+
+        return new ContractionHierarchy(n, rank, fwdOffsets, fwdTargets, fwdWeights, fwdMiddle,
+                bwdOffsets, bwdTargets, bwdWeights, bwdMiddle);
+    }
+
+    /**
+     * Reparte los arcos por fila (conteo + acumulado) y ordena cada fila por destino.
+     */
+    private static void toRows(int n, ArcList arcs, int[] offsets, int[] targets, int[] weights, int[] middle) {
+        for (int i = 0; i < arcs.size; i++) offsets[arcs.row[i] + 1]++;
+        for (int v = 0; v < n; v++) offsets[v + 1] += offsets[v];
+        int[] fill = Arrays.copyOf(offsets, n);
+        for (int i = 0; i < arcs.size; i++) {
+            int k = fill[arcs.row[i]]++;
+            targets[k] = arcs.target[i];
+            weights[k] = arcs.weight[i];
+            middle[k] = arcs.middle[i];
+        }
+        sortRows(n, offsets, targets, weights, middle);
+    }
+
+    /**
+     * Ordena cada fila por destino (inserción: las filas de una jerarquía son cortas).
+     */
+    private static void sortRows(int n, int[] offsets, int[] targets, int[] weights, int[] middle) {
+        for (int v = 0; v < n; v++) {
+            for (int i = offsets[v] + 1; i < offsets[v + 1]; i++) {
+                int t = targets[i], w = weights[i], m = middle[i];
+                int j = i - 1;
+                while (j >= offsets[v] && targets[j] > t) {
+                    targets[j + 1] = targets[j];
+                    weights[j + 1] = weights[j];
+                    middle[j + 1] = middle[j];
+                    j--;
+                }
+                targets[j + 1] = t;
+                weights[j + 1] = w;
+                middle[j + 1] = m;
+            }
+        }
+    }
+
+    /**
+     * @return número de vértices.
+     */
+    public int vertexCount() {
+        return n;
+    }
+
+    /**
+     * @return posición de v en el orden de contracción (0 = primero en contraerse).
+     */
+    public int rank(int v) {
+        return rank[v];
+    }
+
+    /**
+     * @return total de arcos hacia arriba almacenados (originales y atajos, en ambos grafos).
+     */
+    public int arcCount() {
+        return fwdTargets.length + bwdTargets.length;
+    }
+
+    /**
+     * Vértice intermedio del arco hacia adelante u -> w (rank[w] > rank[u]), o -1 si es original.
+     */
+    int forwardMiddle(int u, int w) {
+        int i = Arrays.binarySearch(fwdTargets, fwdOffsets[u], fwdOffsets[u + 1], w);
+        return fwdMiddle[i];
+    }
+
+    /**
+     * Vértice intermedio del arco x -> u guardado en la fila hacia atrás de u (rank[x] > rank[u]).
+     */
+    int backwardMiddle(int u, int x) {
+        int i = Arrays.binarySearch(bwdTargets, bwdOffsets[u], bwdOffsets[u + 1], x);
+        return bwdMiddle[i];
+    }
+
+    // ------------------------------------------------------------------ Persistencia
+
+    public void save(Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            writeTo(out);
+        }
+    }
+
+    public static ContractionHierarchy load(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return readFrom(in);
+        }
+    }
+
+    public void writeTo(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeInt(n);
+        writeArray(out, rank);
+        writeArray(out, fwdOffsets);
+        writeArray(out, fwdTargets);
+        writeArray(out, fwdWeights);
+        writeArray(out, fwdMiddle);
+        writeArray(out, bwdOffsets);
+        writeArray(out, bwdTargets);
+        writeArray(out, bwdWeights);
+        writeArray(out, bwdMiddle);
+        out.flush();
+    }
+
+    public static ContractionHierarchy readFrom(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("El archivo no contiene una jerarquía de contracción");
+        }
+        int n = in.readInt();
+        return new ContractionHierarchy(n, readArray(in),
+                readArray(in), readArray(in), readArray(in), readArray(in),
+                readArray(in), readArray(in), readArray(in), readArray(in));
+    }
+
+    private static void writeArray(DataOutput out, int[] a) throws IOException {
+        out.writeInt(a.length);
+        for (int x : a) out.writeInt(x);
+    }
+
+    private static int[] readArray(DataInput in) throws IOException {
+        int[] a = new int[in.readInt()];
+        for (int i = 0; i < a.length; i++) a[i] = in.readInt();
+        return a;
+    }
+}
@@ -0,0 +1,136 @@
+package algorithms.ch;
+
+import interfaces.IGraph;
+import java.util.Arrays;
+
+/**
+ * Grafo dirigido mutable usado durante la contracción. Cada vértice guarda sus arcos de salida
+ * y de entrada en arreglos primitivos que crecen por duplicación; cada arco lleva su peso y el
+ * vértice intermedio del atajo que representa (-1 si es un arco original).
+ * Al contraer un vértice se desconecta de sus vecinos ({@link #removeVertex(int)}), así las listas
+ * solo contienen arcos entre vértices aún no contraídos.
+ */
+final class DynamicGraph {
+    static final byte ACTIVE = 0;
+    static final byte SELECTED = 1;
+    static final byte CONTRACTED = 2;
+
+    final int n;
+    final int[][] outTarget;
+    final int[][] outWeight;
+    final int[][] outMiddle;
+    final int[] outSize;
+    final int[][] inSource;
+    final int[][] inWeight;
+    final int[][] inMiddle;
+    final int[] inSize;
+    final byte[] state;
+
+    DynamicGraph(IGraph graph) {
+        n = graph.vertexCount();
+        outTarget = new int[n][];
+        outWeight = new int[n][];
+        outMiddle = new int[n][];
+        outSize = new int[n];
+        inSource = new int[n][];
+        inWeight = new int[n][];
+        inMiddle = new int[n][];
+        inSize = new int[n];
+        state = new byte[n];
+        for (int v = 0; v < n; v++) {
+            outTarget[v] = new int[4];
+            outWeight[v] = new int[4];
+            outMiddle[v] = new int[4];
+            inSource[v] = new int[4];
+            inWeight[v] = new int[4];
+            inMiddle[v] = new int[4];
+        }
+        for (int u = 0; u < n; u++) {
+            final int source = u;
+            graph.forEachNeighbor(u, (v, weight) -> {
+                if (v != source && weight > 0) addArc(source, v, weight, -1);
+            });
+        }
+    }
+
+    /**
+     * Agrega el arco u -> w o reduce su peso si ya existe con uno mayor.
+     */
+    void addArc(int u, int w, int weight, int middle) {
+        int[] targets = outTarget[u];
+        for (int i = 0; i < outSize[u]; i++) {
+            if (targets[i] == w) {
+                if (weight < outWeight[u][i]) {
+                    outWeight[u][i] = weight;
+                    outMiddle[u][i] = middle;
+                    int[] sources = inSource[w];
+                    for (int j = 0; j < inSize[w]; j++) {
+                        if (sources[j] == u) {
+                            inWeight[w][j] = weight;
+                            inMiddle[w][j] = middle;
+                            break;
+                        }
+                    }
+                }
+                return;
+            }
+        }
+
+        int i = outSize[u]++;
+        if (i == targets.length) {
+            outTarget[u] = Arrays.copyOf(targets, i * 2);
+            outWeight[u] = Arrays.copyOf(outWeight[u], i * 2);
+            outMiddle[u] = Arrays.copyOf(outMiddle[u], i * 2);
+        }
+        outTarget[u][i] = w;
+        outWeight[u][i] = weight;
+        outMiddle[u][i] = middle;
+
+        int j = inSize[w]++;
+        if (j == inSource[w].length) {
+            inSource[w] = Arrays.copyOf(inSource[w], j * 2);
+            inWeight[w] = Arrays.copyOf(inWeight[w], j * 2);
+            inMiddle[w] = Arrays.copyOf(inMiddle[w], j * 2);
+        }
+        inSource[w][j] = u;
+        inWeight[w][j] = weight;
+        inMiddle[w][j] = middle;
+    }
+
+    /**
+     * Quita todos los arcos entre v y sus vecinos (en ambos sentidos) de las listas de los vecinos.
+     * Las listas propias de v se conservan para que el llamador pueda leerlas antes.
+     */
+    void removeVertex(int v) {
+        for (int i = 0; i < outSize[v]; i++) {
+            int w = outTarget[v][i];
+            int[] sources = inSource[w];
+            for (int j = 0; j < inSize[w]; j++) {
+                if (sources[j] == v) {
+                    int last = --inSize[w];
+                    sources[j] = sources[last];
+                    inWeight[w][j] = inWeight[w][last];
+                    inMiddle[w][j] = inMiddle[w][last];
+                    break;
+                }
+            }
+        }
+        for (int i = 0; i < inSize[v]; i++) {
+            int u = inSource[v][i];
+            int[] targets = outTarget[u];
+            for (int j = 0; j < outSize[u]; j++) {
+                if (targets[j] == v) {
+                    int last = --outSize[u];
+                    targets[j] = targets[last];
+                    outWeight[u][j] = outWeight[u][last];
+                    outMiddle[u][j] = outMiddle[u][last];
+                    break;
+                }
+            }
+        }
+    }
+
+    boolean isActive(int v) {
+        return state[v] == ACTIVE;
+    }
+}
@@ -0,0 +1,58 @@
+package algorithms.ch;
+
+import algorithms.engine.IndexedMinHeap;
+import java.util.Arrays;
+
+/**
+ * Búsqueda de testigos: Dijkstra local sobre los vértices activos del {@link DynamicGraph},
+ * evitando el vértice que se va a contraer. Se corta al superar una distancia máxima o un
+ * número de vértices asentados; en ese caso el llamador agrega el atajo de forma conservadora.
+ * Cada trabajador de {@link CHBuilder} usa su propia instancia.
+ */
+final class WitnessSearch {
+    private final int[] dist;
+    private final IndexedMinHeap heap;
+    private final int[] touched;
+    private int touchedCount;
+
+    WitnessSearch(int n) {
+        dist = new int[n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        heap = new IndexedMinHeap(n);
+        touched = new int[n];
+    }
+
+    void run(DynamicGraph g, int source, int skip, int maxDistance, int settleLimit) {
+        for (int i = 0; i < touchedCount; i++) dist[touched[i]] = Integer.MAX_VALUE;
+        touchedCount = 0;
+        heap.clear();
+
+        dist[source] = 0;
+        touched[touchedCount++] = source;
+        heap.add(source, 0);
+
+        int settled = 0;
+        while (!heap.isEmpty() && settled < settleLimit) {
+            if (heap.peekPriority() > maxDistance) break;
+            int u = heap.poll();
+            settled++;
+            int du = dist[u];
+            int[] targets = g.outTarget[u];
+            int[] weights = g.outWeight[u];
+            for (int i = 0; i < g.outSize[u]; i++) {
+                int v = targets[i];
+                if (v == skip || !g.isActive(v)) continue;
+                int nd = du + weights[i];
+                if (nd < dist[v] && nd >= du) {
+                    if (dist[v] == Integer.MAX_VALUE) touched[touchedCount++] = v;
+                    dist[v] = nd;
+                    heap.insertOrDecrease(v, nd);
+                }
+            }
+        }
+    }
+
+    int distance(int v) {
+        return dist[v];
+    }
+}
@@ -0,0 +1,136 @@
+package algorithms.engine;
+
+import interfaces.IGraph;
+import interfaces.IntIntConsumer;
+
+/**
+ * Búsqueda A* punto a punto con una {@link Heuristic} intercambiable.
+ * <p>
+ * La prioridad de cada vértice es {@code g(v) + h(v)}, con {@code g} la distancia conocida desde el
+ * origen y {@code h} la estimación hasta el destino. Con una heurística admisible el resultado es el
+ * mismo que el de {@link DijkstraSearch}, pero se expanden menos vértices porque la búsqueda se
+ * orienta hacia el destino. Si un vértice ya asentado mejora (heurística no consistente), se
+ * vuelve a insertar, de modo que basta con que la heurística sea admisible.
+ * <p>
+ * Reutilizable entre consultas sobre grafos de hasta {@code n} vértices; no es seguro para hilos.
+ */
+public class AStarSearch {
+    private final int[] dist;
+    private final int[] parent;
+    private final IndexedMinHeap heap;
+    private final int[] touched;
+    private int touchedCount;
+    private int settledCount;
+    private final Relaxer relaxer = new Relaxer();
+
+    private AlgorithmListener listener = AlgorithmListener.NONE;
+
+    /**
+     * @param n número máximo de vértices de los grafos a consultar
+     */
+    public AStarSearch(int n) {
+        dist = GraphEngine.newFilled(n, Integer.MAX_VALUE);
+        parent = GraphEngine.newFilled(n, -1);
+        heap = new IndexedMinHeap(n);
+        touched = new int[n];
+    }
+
+    public void setListener(AlgorithmListener listener) {
+        this.listener = listener == null ? AlgorithmListener.NONE : listener;
+    }
+
+    /**
+     * Calcula la distancia mínima de {@code source} a {@code target}. Las aristas negativas se ignoran.
+     *
+     * @param heuristic cota inferior de la distancia restante hasta {@code target}
+     * @return distancia mínima, o {@code Integer.MAX_VALUE} si no hay ruta
+     */
+    public int run(IGraph graph, int source, int target, Heuristic heuristic) {
+        int n = graph.vertexCount();
+        if (n > dist.length) {
+            throw new IllegalArgumentException("El grafo excede la capacidad de la búsqueda: " + n);
+        }
+        GraphEngine.checkVertex(n, source);
+        GraphEngine.checkVertex(n, target);
+        reset();
+
+        relaxer.heuristic = heuristic;
+        relaxer.target = target;
+
+        touched[touchedCount++] = source;
+        dist[source] = 0;
+        heap.add(source, heuristic.estimate(source, target));
+        listener.vertexDiscovered(source);
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            settledCount++;
+            listener.vertexFinished(u);
+            if (u == target) break;
+
+            relaxer.u = u;
+            relaxer.du = dist[u];
+            graph.forEachNeighbor(u, relaxer);
+        }
+        return dist[target];
+    }
+
+    private final class Relaxer implements IntIntConsumer {
+        Heuristic heuristic;
+        int target;
+        int u;
+        int du;
+
+        @Override
+        public void accept(int v, int weight) {
+            if (weight < 0) return;
+            int nd = du + weight;
+            if (nd < dist[v] && nd >= du) {
+                if (dist[v] == Integer.MAX_VALUE) touched[touchedCount++] = v;
+                dist[v] = nd;
+                parent[v] = u;
+                heap.insertOrDecrease(v, GraphEngine.saturate((long) nd + heuristic.estimate(v, target)));
+                listener.distanceImproved(u, v, nd);
+            }
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < touchedCount; i++) {
+            dist[touched[i]] = Integer.MAX_VALUE;
+            parent[touched[i]] = -1;
+        }
+        touchedCount = 0;
+        settledCount = 0;
+        heap.clear();
+    }
+
+    /**
+     * @return distancia conocida a v en la última consulta, o {@code Integer.MAX_VALUE}.
+     */
+    public int distance(int v) {
+        return dist[v];
+    }
+
+    /**
+     * @return número de vértices expandidos en la última consulta.
+     */
+    public int settledCount() {
+        return settledCount;
+    }
+
+    /**
+     * Reconstruye la ruta hasta {@code target} de la última consulta.
+     * @return vértices desde el origen hasta {@code target}, o arreglo vacío si no se alcanzó
+     */
+    public int[] path(int target) {
+        if (dist[target] == Integer.MAX_VALUE) return new int[0];
+        int length = 1;
+        for (int cur = target; parent[cur] != -1; cur = parent[cur]) length++;
+        int[] path = new int[length];
+        for (int cur = target, i = length - 1; i >= 0; cur = parent[cur], i--) {
+            path[i] = cur;
+        }
+        return path;
+    }
+}
@@ -0,0 +1,51 @@
+package algorithms.engine;
+
+/**
+ * Observador opcional de los eventos que produce {@link GraphEngine} durante una ejecución.
+ * <p>
+ * Todos los métodos reciben solo enteros primitivos y tienen una implementación vacía por
+ * defecto, de modo que el motor no reserva memoria ni construye mensajes por cada paso.
+ * La visualización paso a paso se implementa encima de esta interfaz (ver {@link VisualizerListener}).
+ */
+public interface AlgorithmListener {
+
+    /**
+     * Listener que ignora todos los eventos; es el que usa el motor cuando no se indica ninguno.
+     */
+    AlgorithmListener NONE = new AlgorithmListener() { };
+
+    /**
+     * Un vértice fue descubierto (entra a la frontera / pila / cola).
+     */
+    default void vertexDiscovered(int v) { }
+
+    /**
+     * Un vértice quedó procesado por completo (terminado, asentado o agregado al árbol).
+     */
+    default void vertexFinished(int v) { }
+
+    /**
+     * Se está evaluando la arista (u, v) con el peso dado.
+     */
+    default void edgeExamined(int u, int v, int weight) { }
+
+    /**
+     * La arista (u, v) pasó a formar parte del árbol resultante (recorrido o MST).
+     */
+    default void edgeAccepted(int u, int v, int weight) { }
+
+    /**
+     * La arista (u, v) fue descartada (por ejemplo, porque formaría un ciclo).
+     */
+    default void edgeRejected(int u, int v, int weight) { }
+
+    /**
+     * La distancia tentativa de v mejoró pasando por u.
+     */
+    default void distanceImproved(int u, int v, int distance) { }
+
+    /**
+     * Comienza una nueva iteración o ronda del algoritmo (Bellman-Ford, Borůvka).
+     */
+    default void iterationStarted(int iteration) { }
+}
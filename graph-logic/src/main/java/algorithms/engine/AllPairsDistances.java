@@ -0,0 +1,129 @@
+package algorithms.engine;
+
+import graphs.GraphCSR;
+import graphs.GraphM;
+import interfaces.IGraph;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Servicio de distancias entre todos los pares de vértices con memoización.
+ * <p>
+ * La tabla ({@link DistanceMatrix}) se calcula la primera vez que se pide y se reutiliza mientras
+ * {@link IGraph#version()} no cambie; cualquier {@code setEdge}/{@code deleteEdge} sobre el grafo
+ * la invalida y la siguiente consulta la recalcula.
+ * <p>
+ * Cálculo:
+ * - {@link #dijkstra(IGraph)}: V búsquedas de Dijkstra independientes en paralelo sobre una copia
+ *   {@link GraphCSR} de solo lectura, en bloques de orígenes con un {@link DijkstraSearch}
+ *   (distancias y montículo) por bloque, que se libera al terminarlo.
+ * - {@link #floydWarshall(GraphM)}: O(V³) sin montículos; conviene en matrices densas.
+ * <p>
+ * Como en {@link DijkstraSearch}, los arcos de peso negativo se ignoran en ambos métodos.
+ */
+public class AllPairsDistances {
+    private static final int INF = Integer.MAX_VALUE;
+    /** Orígenes por tarea en {@link #dijkstra(IGraph)}; cada tarea reserva un solo {@link DijkstraSearch}. */
+    private static final int SOURCE_CHUNK = 64;
+
+    private final IGraph graph;
+    private DistanceMatrix table;
+
+    /**
+     * @param graph grafo a consultar; la tabla sigue las modificaciones posteriores del grafo
+     */
+    public AllPairsDistances(IGraph graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * @return tabla vigente para el estado actual del grafo, recalculada solo si el grafo cambió
+     */
+    public synchronized DistanceMatrix table() {
+        if (table == null || table.version != graph.version()) {
+            table = compute(graph);
+        }
+        return table;
+    }
+
+    /**
+     * @return distancia mínima de u a v, o {@code Integer.MAX_VALUE} si es inalcanzable
+     */
+    public int distance(int u, int v) {
+        return table().distance(u, v);
+    }
+
+    /**
+     * Calcula la tabla eligiendo el método: Floyd–Warshall para {@link GraphM} con al menos
+     * V²/4 arcos, Dijkstra desde cada vértice en otro caso.
+     */
+    public static DistanceMatrix compute(IGraph graph) {
+        int n = graph.vertexCount();
+        if (graph instanceof GraphM && (long) graph.edgeCount() * 4 >= (long) n * n) {
+            return floydWarshall((GraphM) graph);
+        }
+        return dijkstra(graph);
+    }
+
+    /**
+     * V búsquedas de Dijkstra en paralelo, una por vértice de origen, agrupadas en bloques de
+     * {@value #SOURCE_CHUNK} orígenes que comparten la búsqueda.
+     *
+     * @throws IllegalArgumentException si el grafo tiene más de {@value DistanceMatrix#MAX_VERTICES} vértices
+     */
+    public static DistanceMatrix dijkstra(IGraph graph) {
+        DistanceMatrix.checkSize(graph.vertexCount());
+        int version = graph.version();
+        GraphCSR snapshot = GraphCSR.copyOf(graph);
+        int n = snapshot.vertexCount();
+        int[] dist = new int[n * n];
+
+        int chunks = (n + SOURCE_CHUNK - 1) / SOURCE_CHUNK;
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            DijkstraSearch search = new DijkstraSearch(n);
+            for (int u = c * SOURCE_CHUNK, end = Math.min(n, u + SOURCE_CHUNK); u < end; u++) {
+                search.run(snapshot, u, -1);
+                System.arraycopy(search.distArray(), 0, dist, u * n, n);
+            }
+        });
+        return new DistanceMatrix(n, version, dist);
+    }
+
+    /**
+     * Floyd–Warshall sobre la matriz de adyacencia. En la fase k la fila k no cambia
+     * (d[k][k] = 0), así que las demás filas se relajan en paralelo.
+     *
+     * @throws IllegalArgumentException si el grafo tiene más de {@value DistanceMatrix#MAX_VERTICES} vértices
+     */
+    public static DistanceMatrix floydWarshall(GraphM graph) {
+        int n = graph.vertexCount();
+        DistanceMatrix.checkSize(n);
+        int version = graph.version();
+        int[] dist = new int[n * n];
+        Arrays.fill(dist, INF);
+        for (int u = 0; u < n; u++) {
+            final int source = u;
+            dist[source * n + source] = 0;
+            graph.forEachNeighbor(u, (v, weight) -> {
+                if (weight > 0 && v != source) dist[source * n + v] = weight;
+            });
+        }
+
+        for (int k = 0; k < n; k++) {
+            final int pivot = k;
+            final int kRow = k * n;
+            IntStream.range(0, n).parallel().forEach(i -> {
+                int iRow = i * n;
+                int dik = dist[iRow + pivot];
+                if (dik == INF) return;
+                for (int j = 0; j < n; j++) {
+                    int dkj = dist[kRow + j];
+                    if (dkj == INF) continue;
+                    long through = (long) dik + dkj;
+                    if (through < dist[iRow + j]) dist[iRow + j] = (int) through;
+                }
+            });
+        }
+        return new DistanceMatrix(n, version, dist);
+    }
+}
@@ -0,0 +1,54 @@
+package algorithms.engine;
+
+/**
+ * Resultado de una consulta de rutas por lotes ({@link GraphEngine#oneToMany},
+ * {@link GraphEngine#nearestSource}): una fila por destino, en el orden en que se pidieron.
+ * <p>
+ * {@code distance[k]} es {@code Integer.MAX_VALUE} y {@code nearestSource[k]} es -1 cuando el
+ * destino k es inalcanzable desde todos los orígenes.
+ */
+public class BatchPathResult {
+    public final int[] sources;
+    public final int[] targets;
+    /** Distancia desde el origen más cercano a cada destino. */
+    public final int[] distance;
+    /** Índice en {@link #sources} del origen más cercano a cada destino, o -1. */
+    public final int[] nearestSource;
+    /** Predecesor de cada vértice en el bosque de rutas, o -1. */
+    public final int[] parent;
+    /** Vértices asentados antes de cubrir todos los destinos. */
+    public final int settledCount;
+
+    public BatchPathResult(int[] sources, int[] targets, int[] distance, int[] nearestSource,
+                           int[] parent, int settledCount) {
+        this.sources = sources;
+        this.targets = targets;
+        this.distance = distance;
+        this.nearestSource = nearestSource;
+        this.parent = parent;
+        this.settledCount = settledCount;
+    }
+
+    /**
+     * @return true si el destino k se alcanzó desde algún origen.
+     */
+    public boolean isReachable(int k) {
+        return nearestSource[k] != -1;
+    }
+
+    /**
+     * Reconstruye la ruta desde el origen más cercano hasta el destino k.
+     *
+     * @return vértices de la ruta en orden, o un arreglo vacío si es inalcanzable
+     */
+    public int[] path(int k) {
+        if (!isReachable(k)) return new int[0];
+        int length = 1;
+        for (int cur = targets[k]; parent[cur] != -1; cur = parent[cur]) length++;
+        int[] path = new int[length];
+        for (int cur = targets[k], i = length - 1; i >= 0; cur = parent[cur], i--) {
+            path[i] = cur;
+        }
+        return path;
+    }
+}
@@ -0,0 +1,182 @@
+package algorithms.engine;
+
+import graphs.GraphCSR;
+import interfaces.IGraph;
+import interfaces.IntIntConsumer;
+
+/**
+ * Dijkstra bidireccional para consultas punto a punto (origen/destino).
+ * <p>
+ * Avanza alternadamente una búsqueda hacia adelante desde el origen y otra hacia atrás desde el
+ * destino (sobre el grafo transpuesto), siempre por el lado cuyo mínimo del montículo es menor.
+ * Mantiene {@code mu}, el costo de la mejor ruta vista que une ambas búsquedas, y se detiene cuando
+ * {@code minAdelante + minAtrás >= mu}: ninguna ruta sin explorar puede ser más corta.
+ * En grafos de carreteras suele asentar bastantes menos vértices que {@link DijkstraSearch}.
+ * <p>
+ * Reutilizable entre consultas (solo reinicia lo que tocó la anterior); no es seguro para hilos.
+ */
+public class BidirectionalDijkstra {
+    private final int n;
+    private final Side forward;
+    private final Side backward;
+
+    private int best;
+    private int meeting;
+
+    /**
+     * Prepara la búsqueda construyendo una sola vez el transpuesto de {@code graph}.
+     */
+    public BidirectionalDijkstra(IGraph graph) {
+        this(graph, GraphCSR.transposeOf(graph));
+    }
+
+    /**
+     * @param graph    grafo para la búsqueda hacia adelante
+     * @param reversed su transpuesto; puede ser el mismo {@code graph} si es simétrico (no dirigido)
+     */
+    public BidirectionalDijkstra(IGraph graph, IGraph reversed) {
+        if (graph.vertexCount() != reversed.vertexCount()) {
+            throw new IllegalArgumentException("El grafo y su transpuesto deben tener los mismos vértices");
+        }
+        this.n = graph.vertexCount();
+        this.forward = new Side(graph);
+        this.backward = new Side(reversed);
+        forward.other = backward;
+        backward.other = forward;
+    }
+
+    /**
+     * Calcula la distancia mínima de {@code source} a {@code target}.
+     * Las aristas negativas se ignoran.
+     *
+     * @return distancia mínima, o {@code Integer.MAX_VALUE} si no hay ruta
+     */
+    public int run(int source, int target) {
+        GraphEngine.checkVertex(n, source);
+        GraphEngine.checkVertex(n, target);
+        forward.reset();
+        backward.reset();
+        best = Integer.MAX_VALUE;
+        meeting = -1;
+
+        forward.start(source);
+        backward.start(target);
+        if (source == target) {
+            best = 0;
+            meeting = source;
+            return 0;
+        }
+
+        while (!forward.heap.isEmpty() && !backward.heap.isEmpty()) {
+            long frontier = (long) forward.heap.peekPriority() + backward.heap.peekPriority();
+            if (frontier >= best) break;
+            if (forward.heap.peekPriority() <= backward.heap.peekPriority()) {
+                forward.settleNext();
+            } else {
+                backward.settleNext();
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return ruta de la última consulta, del origen al destino; vacía si no hubo ruta.
+     */
+    public int[] path() {
+        if (meeting == -1) return new int[0];
+        int head = 0;
+        for (int cur = meeting; cur != -1; cur = forward.parent[cur]) head++;
+        int tail = 0;
+        for (int cur = backward.parent[meeting]; cur != -1; cur = backward.parent[cur]) tail++;
+
+        int[] path = new int[head + tail];
+        int i = head - 1;
+        for (int cur = meeting; cur != -1; cur = forward.parent[cur]) path[i--] = cur;
+        i = head;
+        for (int cur = backward.parent[meeting]; cur != -1; cur = backward.parent[cur]) path[i++] = cur;
+        return path;
+    }
+
+    /**
+     * @return vértice donde se unieron ambas búsquedas en la última consulta, o -1.
+     */
+    public int meetingVertex() {
+        return meeting;
+    }
+
+    /**
+     * @return vértices asentados entre ambas direcciones en la última consulta.
+     */
+    public int settledCount() {
+        return forward.settled + backward.settled;
+    }
+
+    private void offer(int v) {
+        if (forward.dist[v] == Integer.MAX_VALUE || backward.dist[v] == Integer.MAX_VALUE) return;
+        long total = (long) forward.dist[v] + backward.dist[v];
+        if (total < best) {
+            best = (int) total;
+            meeting = v;
+        }
+    }
+
+    /**
+     * Estado de una de las dos búsquedas.
+     */
+    private final class Side implements IntIntConsumer {
+        final IGraph graph;
+        final int[] dist;
+        final int[] parent;
+        final IndexedMinHeap heap;
+        final int[] touched;
+        int touchedCount;
+        int settled;
+        Side other;
+        int u;
+        int du;
+
+        Side(IGraph graph) {
+            this.graph = graph;
+            this.dist = GraphEngine.newFilled(n, Integer.MAX_VALUE);
+            this.parent = GraphEngine.newFilled(n, -1);
+            this.heap = new IndexedMinHeap(n);
+            this.touched = new int[n];
+        }
+
+        void start(int v) {
+            touched[touchedCount++] = v;
+            dist[v] = 0;
+            heap.add(v, 0);
+        }
+
+        void settleNext() {
+            u = heap.poll();
+            du = dist[u];
+            settled++;
+            graph.forEachNeighbor(u, this);
+        }
+
+        @Override
+        public void accept(int v, int weight) {
+            if (weight < 0) return;
+            int nd = du + weight;
+            if (nd < dist[v] && nd >= du) {
+                if (dist[v] == Integer.MAX_VALUE) touched[touchedCount++] = v;
+                dist[v] = nd;
+                parent[v] = u;
+                heap.insertOrDecrease(v, nd);
+            }
+            if (other.dist[v] != Integer.MAX_VALUE) offer(v);
+        }
+
+        void reset() {
+            for (int i = 0; i < touchedCount; i++) {
+                dist[touched[i]] = Integer.MAX_VALUE;
+                parent[touched[i]] = -1;
+            }
+            touchedCount = 0;
+            settled = 0;
+            heap.clear();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package algorithms.engine;
+
+import interfaces.IGraph;
+import interfaces.IntIntConsumer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Dijkstra reutilizable entre consultas sobre grafos de hasta {@code n} vértices.
+ * <p>
+ * Usa un {@link IndexedMinHeap} con decrease-key (a lo sumo V entradas) y no crea objetos por
+ * relajación. Entre consultas solo se reinician los vértices tocados por la anterior, de modo que
+ * una consulta punto a punto cuesta en proporción a lo que explora y no a V.
+ * Las instantáneas del arreglo de distancias (como en
+ * {@link algorithms.GraphAlgorithms#runDijkstraWithEvolution}) solo se guardan si se piden con
+ * {@link #setRecordSnapshots(boolean)}, ya que cada una cuesta O(V).
+ * <p>
+ * {@link #run(IGraph, int[], int[])} atiende consultas por lotes: varios orígenes sembrados con
+ * distancia 0 (equivale a un súper-origen) y un conjunto de destinos; se detiene en cuanto
+ * todos los destinos quedan asentados y {@link #origin(int)} indica qué origen alcanzó cada vértice.
+ * <p>
+ * No es seguro para hilos: use una instancia por hilo.
+ */
+public class DijkstraSearch {
+    private final int[] dist;
+    private final int[] parent;
+    private final int[] origin;
+    private final IndexedMinHeap heap;
+    private final int[] touched;
+    private int touchedCount;
+    private final int[] targetStamp;
+    private int currentStamp;
+    private int settledCount;
+    private final Relaxer relaxer = new Relaxer();
+
+    private AlgorithmListener listener = AlgorithmListener.NONE;
+    private boolean recordSnapshots;
+    private List<int[]> snapshots = Collections.emptyList();
+
+    /**
+     * @param n número máximo de vértices de los grafos a consultar
+     */
+    public DijkstraSearch(int n) {
+        dist = GraphEngine.newFilled(n, Integer.MAX_VALUE);
+        parent = GraphEngine.newFilled(n, -1);
+        origin = GraphEngine.newFilled(n, -1);
+        heap = new IndexedMinHeap(n);
+        touched = new int[n];
+        targetStamp = new int[n];
+    }
+
+    public void setListener(AlgorithmListener listener) {
+        this.listener = listener == null ? AlgorithmListener.NONE : listener;
+    }
+
+    /**
+     * Activa o desactiva la captura de una copia de {@code dist} tras cada mejora.
+     */
+    public void setRecordSnapshots(boolean recordSnapshots) {
+        this.recordSnapshots = recordSnapshots;
+    }
+
+    /**
+     * Ejecuta Dijkstra desde {@code source} y se detiene al asentar {@code target}.
+     * Con {@code target = -1} calcula el árbol de rutas completo. Las aristas negativas se ignoran.
+     *
+     * @return distancia a {@code target}, o {@code Integer.MAX_VALUE} si es inalcanzable o {@code target = -1}
+     */
+    public int run(IGraph graph, int source, int target) {
+        int n = graph.vertexCount();
+        if (n > dist.length) {
+            throw new IllegalArgumentException("El grafo excede la capacidad de la búsqueda: " + n);
+        }
+        GraphEngine.checkVertex(n, source);
+        if (target != -1) GraphEngine.checkVertex(n, target);
+
+        reset();
+        snapshots = recordSnapshots ? new ArrayList<>() : Collections.emptyList();
+
+        touch(source, 0, -1);
+        origin[source] = 0;
+        heap.add(source, 0);
+        listener.vertexDiscovered(source);
+        snapshot(n);
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            settledCount++;
+            listener.vertexFinished(u);
+            if (u == target) break;
+            relax(graph, n, u);
+        }
+        return target == -1 ? Integer.MAX_VALUE : dist[target];
+    }
+
+    /**
+     * Dijkstra por lotes: todos los {@code sources} empiezan con distancia 0 y la búsqueda se
+     * detiene cuando se asientan todos los {@code targets} (o se agota el grafo).
+     * Con {@code targets = null} calcula el bosque de rutas completo.
+     * Tras la consulta, {@link #origin(int)} da el índice en {@code sources} del origen más cercano.
+     *
+     * @return número de destinos distintos alcanzados
+     */
+    public int run(IGraph graph, int[] sources, int[] targets) {
+        int n = graph.vertexCount();
+        if (n > dist.length) {
+            throw new IllegalArgumentException("El grafo excede la capacidad de la búsqueda: " + n);
+        }
+        if (sources.length == 0) throw new IllegalArgumentException("Se requiere al menos un origen");
+
+        reset();
+        snapshots = recordSnapshots ? new ArrayList<>() : Collections.emptyList();
+
+        int remaining = Integer.MAX_VALUE;
+        int stamp = 0;
+        if (targets != null) {
+            stamp = nextStamp();
+            remaining = 0;
+            for (int t : targets) {
+                GraphEngine.checkVertex(n, t);
+                if (targetStamp[t] != stamp) {
+                    targetStamp[t] = stamp;
+                    remaining++;
+                }
+            }
+        }
+
+        for (int i = 0; i < sources.length; i++) {
+            int s = sources[i];
+            GraphEngine.checkVertex(n, s);
+            if (dist[s] == 0) continue;
+            touch(s, 0, -1);
+            origin[s] = i;
+            heap.add(s, 0);
+            listener.vertexDiscovered(s);
+        }
+        snapshot(n);
+
+        int reached = 0;
+        while (!heap.isEmpty() && remaining > 0) {
+            int u = heap.poll();
+            settledCount++;
+            listener.vertexFinished(u);
+            if (targets == null) {
+                reached++;
+            } else if (targetStamp[u] == stamp) {
+                reached++;
+                remaining--;
+                if (remaining == 0) break;
+            }
+            relax(graph, n, u);
+        }
+        return reached;
+    }
+
+    private void relax(IGraph graph, int n, int u) {
+        relaxer.graphSize = n;
+        relaxer.u = u;
+        relaxer.du = dist[u];
+        relaxer.origin = origin[u];
+        graph.forEachNeighbor(u, relaxer);
+    }
+
+    private int nextStamp() {
+        if (++currentStamp == 0) {
+            Arrays.fill(targetStamp, 0);
+            currentStamp = 1;
+        }
+        return currentStamp;
+    }
+
+    private final class Relaxer implements IntIntConsumer {
+        int graphSize;
+        int u;
+        int du;
+        int origin;
+
+        @Override
+        public void accept(int v, int weight) {
+            if (weight < 0) return;
+            int nd = du + weight;
+            // Con pesos no negativos, nd < du solo ocurre si la suma desborda: se trata como inalcanzable.
+            if (nd < dist[v] && nd >= du) {
+                if (dist[v] == Integer.MAX_VALUE) touched[touchedCount++] = v;
+                dist[v] = nd;
+                parent[v] = u;
+                DijkstraSearch.this.origin[v] = origin;
+                heap.insertOrDecrease(v, nd);
+                listener.distanceImproved(u, v, nd);
+                snapshot(graphSize);
+            }
+        }
+    }
+
+    private void touch(int v, int d, int p) {
+        touched[touchedCount++] = v;
+        dist[v] = d;
+        parent[v] = p;
+    }
+
+    private void snapshot(int n) {
+        if (recordSnapshots) snapshots.add(Arrays.copyOf(dist, n));
+    }
+
+    private void reset() {
+        for (int i = 0; i < touchedCount; i++) {
+            int v = touched[i];
+            dist[v] = Integer.MAX_VALUE;
+            parent[v] = -1;
+            origin[v] = -1;
+        }
+        touchedCount = 0;
+        settledCount = 0;
+        heap.clear();
+    }
+
+    /**
+     * @return distancia tentativa/final a v de la última consulta, o {@code Integer.MAX_VALUE}.
+     */
+    public int distance(int v) {
+        return dist[v];
+    }
+
+    /**
+     * @return predecesor de v en la última consulta, o -1.
+     */
+    public int parent(int v) {
+        return parent[v];
+    }
+
+    /**
+     * @return índice en el arreglo de orígenes del origen que alcanzó a v en la última consulta
+     *         (0 en las consultas de un solo origen), o -1 si no se alcanzó.
+     */
+    public int origin(int v) {
+        return origin[v];
+    }
+
+    /**
+     * @return número de vértices extraídos del montículo en la última consulta.
+     */
+    public int settledCount() {
+        return settledCount;
+    }
+
+    /**
+     * @return instantáneas de la última consulta (vacía si no se pidieron).
+     */
+    public List<int[]> snapshots() {
+        return snapshots;
+    }
+
+    /**
+     * Reconstruye la ruta hasta {@code target} de la última consulta.
+     * @return vértices desde el origen hasta {@code target}, o arreglo vacío si no se alcanzó
+     */
+    public int[] path(int target) {
+        if (dist[target] == Integer.MAX_VALUE) return new int[0];
+        int length = 1;
+        for (int cur = target; parent[cur] != -1; cur = parent[cur]) length++;
+        int[] path = new int[length];
+        for (int cur = target, i = length - 1; i >= 0; cur = parent[cur], i--) {
+            path[i] = cur;
+        }
+        return path;
+    }
+
+    int[] distArray() {
+        return dist;
+    }
+
+    int[] parentArray() {
+        return parent;
+    }
+
+    int[] originArray() {
+        return origin;
+    }
+}
@@ -0,0 +1,57 @@
+package algorithms.engine;
+
+/**
+ * Tabla de distancias mínimas entre todos los pares de vértices, calculada por {@link AllPairsDistances}.
+ * <p>
+ * Se guarda en un solo arreglo plano por filas ({@code u * n + v}), de modo que cada consulta es O(1).
+ * {@code Integer.MAX_VALUE} indica que v no es alcanzable desde u. Admite a lo sumo
+ * {@value #MAX_VERTICES} vértices (V² celdas en un arreglo).
+ */
+public class DistanceMatrix {
+    public static final int MAX_VERTICES = 46340;
+
+    /** Número de vértices del grafo. */
+    public final int n;
+    /** Versión del grafo ({@link interfaces.IGraph#version()}) con la que se calculó la tabla. */
+    public final int version;
+    private final int[] dist;
+
+    /**
+     * @throws IllegalArgumentException si n² celdas no caben en un arreglo
+     */
+    static void checkSize(int n) {
+        if (n > MAX_VERTICES) {
+            throw new IllegalArgumentException("Demasiados vértices para una tabla de distancias: " + n
+                    + " (máximo " + MAX_VERTICES + ")");
+        }
+    }
+
+    DistanceMatrix(int n, int version, int[] dist) {
+        this.n = n;
+        this.version = version;
+        this.dist = dist;
+    }
+
+    /**
+     * @return distancia mínima de u a v, o {@code Integer.MAX_VALUE} si es inalcanzable
+     */
+    public int distance(int u, int v) {
+        return dist[u * n + v];
+    }
+
+    /**
+     * @return true si existe una ruta de u a v.
+     */
+    public boolean isReachable(int u, int v) {
+        return dist[u * n + v] != Integer.MAX_VALUE;
+    }
+
+    /**
+     * @return copia de la fila de distancias desde u.
+     */
+    public int[] row(int u) {
+        int[] row = new int[n];
+        System.arraycopy(dist, u * n, row, 0, n);
+        return row;
+    }
+}
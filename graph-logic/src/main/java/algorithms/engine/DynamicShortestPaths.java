@@ -0,0 +1,303 @@
+package algorithms.engine;
+
+import interfaces.GraphChangeListener;
+import interfaces.IGraph;
+import java.util.Arrays;
+
+/**
+ * Árbol de rutas más cortas desde un origen fijo que se mantiene al cambiar el grafo
+ * (actualización incremental al estilo Ramalingam–Reps).
+ * <p>
+ * Se registra como {@link GraphChangeListener} del grafo y conserva {@code dist}/{@code parent}
+ * entre cambios. Cada notificación repara solo lo afectado:
+ * <ul>
+ *   <li>Inserción o reducción de peso de (u, v): si mejora {@code dist[v]}, se propaga un Dijkstra
+ *       desde v que solo visita los vértices cuya distancia baja.</li>
+ *   <li>Eliminación o aumento de peso de un arco del árbol (u = parent[v]): se invalida el subárbol
+ *       de v, cada vértice del subárbol toma la mejor entrada desde fuera de él y se ejecuta
+ *       Dijkstra restringido al subárbol.</li>
+ *   <li>Cualquier otro cambio no altera el árbol y cuesta O(grado) para actualizar la copia de arcos.</li>
+ * </ul>
+ * Guarda su propia copia de los arcos de entrada y salida, actualizada con las notificaciones,
+ * para no depender del orden en que el grafo aplica y anuncia cambios que afectan a dos arcos
+ * ({@code GraphL} notifica ambos sentidos tras modificar los dos). Las aristas negativas se ignoran,
+ * igual que en {@link DijkstraSearch}. {@link IGraph#init(int)} provoca un recálculo completo.
+ * <p>
+ * No es seguro para hilos: los cambios del grafo y las consultas deben hacerse desde el mismo hilo.
+ */
+public class DynamicShortestPaths implements GraphChangeListener {
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final IGraph graph;
+    private final int source;
+    private int n;
+    private int[] dist;
+    private int[] parent;
+    private IndexedMinHeap heap;
+    private ArcLists out;
+    private ArcLists in;
+
+    private int[] affected;
+    private int[] stamp;
+    private int currentStamp;
+    private int affectedCount;
+
+    /**
+     * Calcula el árbol inicial y se suscribe a los cambios del grafo.
+     *
+     * @throws UnsupportedOperationException si el grafo no admite observadores (p. ej. {@code GraphCSR})
+     */
+    public DynamicShortestPaths(IGraph graph, int source) {
+        GraphEngine.checkVertex(graph.vertexCount(), source);
+        this.graph = graph;
+        this.source = source;
+        recompute();
+        graph.addChangeListener(this);
+    }
+
+    /**
+     * Deja de seguir los cambios del grafo; los resultados quedan congelados.
+     */
+    public void detach() {
+        graph.removeChangeListener(this);
+    }
+
+    /**
+     * Recalcula el árbol completo desde el estado actual del grafo.
+     */
+    public void recompute() {
+        n = graph.vertexCount();
+        dist = GraphEngine.newFilled(n, INF);
+        parent = GraphEngine.newFilled(n, -1);
+        heap = new IndexedMinHeap(n);
+        affected = new int[n];
+        stamp = new int[n];
+        currentStamp = 0;
+        out = new ArcLists(n);
+        in = new ArcLists(n);
+        for (int u = 0; u < n; u++) {
+            final int from = u;
+            graph.forEachNeighbor(u, (v, w) -> {
+                out.put(from, v, w);
+                in.put(v, from, w);
+            });
+        }
+
+        affectedCount = 0;
+        if (source < n) {
+            dist[source] = 0;
+            heap.add(source, 0);
+            propagate();
+        }
+    }
+
+    @Override
+    public void graphReset() {
+        recompute();
+    }
+
+    @Override
+    public void edgeChanged(int u, int v, int oldWeight, int newWeight) {
+        if (newWeight == 0) {
+            out.remove(u, v);
+            in.remove(v, u);
+        } else {
+            out.put(u, v, newWeight);
+            in.put(v, u, newWeight);
+        }
+
+        affectedCount = 0;
+        if (usable(newWeight) && dist[u] != INF && (long) dist[u] + newWeight < dist[v]) {
+            dist[v] = dist[u] + newWeight;
+            parent[v] = u;
+            heap.add(v, dist[v]);
+            propagate();
+        } else if (parent[v] == u && !(usable(newWeight) && newWeight <= oldWeight)) {
+            repairSubtree(v);
+        }
+    }
+
+    private static boolean usable(int weight) {
+        return weight > 0;
+    }
+
+    /**
+     * Dijkstra desde los vértices ya colocados en el montículo, sobre la copia de arcos de salida.
+     */
+    private void propagate() {
+        while (!heap.isEmpty()) {
+            int x = heap.poll();
+            affectedCount++;
+            int dx = dist[x];
+            int[] targets = out.other[x];
+            int[] weights = out.weight[x];
+            for (int k = 0, size = out.size[x]; k < size; k++) {
+                int w = weights[k];
+                if (!usable(w)) continue;
+                int z = targets[k];
+                int nd = dx + w;
+                // Con pesos positivos, nd < dx solo ocurre si la suma desborda: se trata como inalcanzable.
+                if (nd < dist[z] && nd >= dx) {
+                    dist[z] = nd;
+                    parent[z] = x;
+                    heap.insertOrDecrease(z, nd);
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalida el subárbol con raíz {@code root}, lo siembra con las mejores entradas desde
+     * vértices no afectados y lo vuelve a asentar con Dijkstra.
+     */
+    private void repairSubtree(int root) {
+        int mark = nextStamp();
+        int count = 0;
+        affected[count++] = root;
+        stamp[root] = mark;
+        for (int head = 0; head < count; head++) {
+            int y = affected[head];
+            int[] targets = out.other[y];
+            for (int k = 0, size = out.size[y]; k < size; k++) {
+                int x = targets[k];
+                if (parent[x] == y && stamp[x] != mark) {
+                    stamp[x] = mark;
+                    affected[count++] = x;
+                }
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            int x = affected[i];
+            dist[x] = INF;
+            parent[x] = -1;
+        }
+
+        for (int i = 0; i < count; i++) {
+            int x = affected[i];
+            int[] sources = in.other[x];
+            int[] weights = in.weight[x];
+            int best = INF;
+            int bestParent = -1;
+            for (int k = 0, size = in.size[x]; k < size; k++) {
+                int y = sources[k];
+                int w = weights[k];
+                if (stamp[y] == mark || !usable(w) || dist[y] == INF) continue;
+                if ((long) dist[y] + w < best) {
+                    best = dist[y] + w;
+                    bestParent = y;
+                }
+            }
+            if (bestParent != -1) {
+                dist[x] = best;
+                parent[x] = bestParent;
+                heap.add(x, best);
+            }
+        }
+        propagate();
+        affectedCount = Math.max(affectedCount, count);
+    }
+
+    private int nextStamp() {
+        if (++currentStamp == 0) {
+            Arrays.fill(stamp, 0);
+            currentStamp = 1;
+        }
+        return currentStamp;
+    }
+
+    /**
+     * @return vértice origen del árbol.
+     */
+    public int source() {
+        return source;
+    }
+
+    /**
+     * @return distancia actual desde el origen a v, o {@code Integer.MAX_VALUE} si es inalcanzable.
+     */
+    public int distance(int v) {
+        return dist[v];
+    }
+
+    /**
+     * @return predecesor de v en el árbol actual, o -1.
+     */
+    public int parent(int v) {
+        return parent[v];
+    }
+
+    /**
+     * @return número de vértices cuya distancia se recalculó en la última actualización
+     *         (subárbol invalidado o vértices mejorados); tras {@link #recompute()},
+     *         el número de vértices alcanzables.
+     */
+    public int affectedCount() {
+        return affectedCount;
+    }
+
+    /**
+     * Reconstruye la ruta actual hasta {@code target}.
+     * @return vértices desde el origen hasta {@code target}, o arreglo vacío si es inalcanzable
+     */
+    public int[] path(int target) {
+        if (dist[target] == INF) return new int[0];
+        int length = 1;
+        for (int cur = target; parent[cur] != -1; cur = parent[cur]) length++;
+        int[] path = new int[length];
+        for (int cur = target, i = length - 1; i >= 0; cur = parent[cur], i--) {
+            path[i] = cur;
+        }
+        return path;
+    }
+
+    /**
+     * Listas de arcos por vértice en arreglos que crecen por duplicación. Las búsquedas son
+     * lineales en el grado, suficiente para grafos viales de grado pequeño.
+     */
+    private static final class ArcLists {
+        final int[][] other;
+        final int[][] weight;
+        final int[] size;
+
+        ArcLists(int n) {
+            other = new int[n][];
+            weight = new int[n][];
+            size = new int[n];
+            for (int v = 0; v < n; v++) {
+                other[v] = new int[2];
+                weight[v] = new int[2];
+            }
+        }
+
+        void put(int v, int x, int w) {
+            int[] xs = other[v];
+            int s = size[v];
+            for (int k = 0; k < s; k++) {
+                if (xs[k] == x) {
+                    weight[v][k] = w;
+                    return;
+                }
+            }
+            if (s == xs.length) {
+                other[v] = Arrays.copyOf(xs, s * 2);
+                weight[v] = Arrays.copyOf(weight[v], s * 2);
+            }
+            other[v][s] = x;
+            weight[v][s] = w;
+            size[v] = s + 1;
+        }
+
+        void remove(int v, int x) {
+            int[] xs = other[v];
+            int last = size[v] - 1;
+            for (int k = 0; k <= last; k++) {
+                if (xs[k] == x) {
+                    xs[k] = xs[last];
+                    weight[v][k] = weight[v][last];
+                    size[v] = last;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package algorithms.engine;
+
+import java.util.Arrays;
+
+/**
+ * Ordenamiento primitivo de aristas por peso para Kruskal, sin objetos ni {@code Comparable}.
+ * <p>
+ * Devuelve una permutación de índices de arista ordenada por (peso, índice), es decir, estable
+ * respecto al orden de entrada, igual que {@code Collections.sort} sobre {@code EdgeContext}.
+ * - Si el rango de pesos es pequeño (los kilómetros de {@code nodos.json}, por ejemplo) usa
+ *   conteo: O(E + rango).
+ * - En otro caso usa radix LSD sobre claves {@code long} empaquetadas {@code (peso << 32) | índice}
+ *   con dígitos de 16 bits. Como las claves ya llegan ordenadas por índice y cada pasada es estable,
+ *   basta ordenar los 32 bits del peso: a lo sumo dos pasadas, y se omiten las que no distinguen nada.
+ */
+public final class EdgeSort {
+    private static final int RADIX_BITS = 16;
+    private static final int RADIX = 1 << RADIX_BITS;
+    /** Rango de pesos máximo, además de E, para el que conviene el ordenamiento por conteo. */
+    private static final int COUNTING_RANGE = 1 << 12;
+
+    private EdgeSort() {
+    }
+
+    /**
+     * @param weights pesos de las aristas
+     * @param size    número de aristas válidas en {@code weights}
+     * @return índices de arista en orden (peso, índice)
+     */
+    public static int[] byWeight(int[] weights, int size) {
+        if (size == 0) return new int[0];
+        int min = weights[0];
+        int max = weights[0];
+        for (int i = 1; i < size; i++) {
+            min = Math.min(min, weights[i]);
+            max = Math.max(max, weights[i]);
+        }
+        long range = (long) max - min + 1;
+        if (range <= Math.max(COUNTING_RANGE, size)) {
+            return countingSort(weights, size, min, (int) range);
+        }
+        return radixSort(weights, size);
+    }
+
+    private static int[] countingSort(int[] weights, int size, int min, int range) {
+        int[] start = new int[range + 1];
+        for (int i = 0; i < size; i++) start[weights[i] - min + 1]++;
+        for (int b = 0; b < range; b++) start[b + 1] += start[b];
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) order[start[weights[i] - min]++] = i;
+        return order;
+    }
+
+    private static int[] radixSort(int[] weights, int size) {
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            // Invertir el bit de signo hace que el orden sin signo de la clave respete los pesos negativos.
+            keys[i] = PackedKeys.pack(weights[i] ^ Integer.MIN_VALUE, i);
+        }
+        long[] buffer = new long[size];
+        int[] count = new int[RADIX];
+        for (int shift = 32; shift < 64; shift += RADIX_BITS) {
+            Arrays.fill(count, 0);
+            for (int i = 0; i < size; i++) count[(int) (keys[i] >>> shift) & (RADIX - 1)]++;
+            if (count[(int) (keys[0] >>> shift) & (RADIX - 1)] == size) continue;
+            for (int d = 0, sum = 0; d < RADIX; d++) {
+                int c = count[d];
+                count[d] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < size; i++) buffer[count[(int) (keys[i] >>> shift) & (RADIX - 1)]++] = keys[i];
+            long[] swap = keys;
+            keys = buffer;
+            buffer = swap;
+        }
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) order[i] = PackedKeys.value(keys[i]);
+        return order;
+    }
+}
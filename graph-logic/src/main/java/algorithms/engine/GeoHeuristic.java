@@ -0,0 +1,67 @@
+package algorithms.engine;
+
+import interfaces.IGeoGraph;
+
+/**
+ * Heurística basada en la distancia euclidiana entre las coordenadas de un {@link IGeoGraph},
+ * convertida a kilómetros con un factor {@code kmPerUnit}.
+ * <p>
+ * Las coordenadas del mapa no están en kilómetros y las carreteras no son líneas rectas, así que
+ * {@link #calibrated(IGeoGraph)} calcula el mayor factor que sigue siendo cota inferior en todas
+ * las aristas: {@code min(peso / longitudEuclidiana)}. Con ese factor la heurística es consistente
+ * (desigualdad triangular), por lo que A* conserva resultados exactos.
+ */
+public class GeoHeuristic implements Heuristic {
+    /** Margen para que el redondeo en punto flotante no rompa la consistencia. */
+    private static final double SAFETY = 1.0 - 1e-9;
+
+    private final IGeoGraph graph;
+    private final double kmPerUnit;
+
+    /**
+     * @param graph     grafo con coordenadas
+     * @param kmPerUnit kilómetros por unidad de coordenada; debe ser una cota inferior válida
+     */
+    public GeoHeuristic(IGeoGraph graph, double kmPerUnit) {
+        this.graph = graph;
+        this.kmPerUnit = kmPerUnit * SAFETY;
+    }
+
+    /**
+     * Crea la heurística con el factor más ajustado que es cota inferior en todas las aristas
+     * de peso positivo del grafo. Las aristas entre vértices con las mismas coordenadas no restringen.
+     */
+    public static GeoHeuristic calibrated(IGeoGraph graph) {
+        double[] scale = {Double.MAX_VALUE};
+        for (int u = 0; u < graph.vertexCount(); u++) {
+            final int source = u;
+            graph.forEachNeighbor(u, (v, weight) -> {
+                if (weight <= 0) {
+                    scale[0] = 0;
+                    return;
+                }
+                double length = euclid(graph, source, v);
+                if (length > 0) scale[0] = Math.min(scale[0], weight / length);
+            });
+        }
+        return new GeoHeuristic(graph, scale[0] == Double.MAX_VALUE ? 0 : scale[0]);
+    }
+
+    /**
+     * @return kilómetros por unidad de coordenada usados por la heurística.
+     */
+    public double kmPerUnit() {
+        return kmPerUnit;
+    }
+
+    @Override
+    public int estimate(int v, int target) {
+        return (int) (euclid(graph, v, target) * kmPerUnit);
+    }
+
+    private static double euclid(IGeoGraph graph, int a, int b) {
+        double dx = graph.x(a) - graph.x(b);
+        double dy = graph.y(a) - graph.y(b);
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+}
@@ -0,0 +1,814 @@
+package algorithms.engine;
+
+import algorithms.mst.ConcurrentUnionFind;
+import algorithms.mst.UnionFind;
+import graphs.GraphCSR;
+import interfaces.EdgeList;
+import interfaces.IGraph;
+import interfaces.IntIntConsumer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Motor de algoritmos sin interfaz gráfica: grafo ({@link IGraph}) de entrada, resultado de salida.
+ * <p>
+ * A diferencia de {@link algorithms.GraphAlgorithms}, no depende de {@link interfaces.IVisualizer},
+ * no duerme el hilo, no consulta la pausa de la GUI ni construye mensajes. Todo el estado de la
+ * ejecución vive en arreglos primitivos reservados una sola vez al inicio; las marcas del grafo
+ * ({@link IGraph#setMark(int, int)}) no se modifican. Los pasos intermedios se pueden observar
+ * con un {@link AlgorithmListener} opcional.
+ */
+public final class GraphEngine {
+
+    /** Tamaño a partir del cual Filter-Kruskal deja de partir y ordena directamente. */
+    private static final int FILTER_KRUSKAL_THRESHOLD = 1024;
+    /** Aristas por tarea en los recorridos paralelos de aristas (Borůvka, componentes). */
+    private static final int BORUVKA_CHUNK = 4096;
+
+    private GraphEngine() {
+    }
+
+    // ------------------------------------------------------------------ Recorridos
+
+    public static TraversalResult dfs(IGraph graph, int start) {
+        return dfs(graph, start, AlgorithmListener.NONE);
+    }
+
+    /**
+     * Recorrido en profundidad iterativo desde {@code start}, en el mismo orden que la versión
+     * recursiva. Los arcos se exportan una vez con {@link IGraph#exportArcs()}, que conserva el
+     * orden de vecinos del grafo (el de {@code firstNeighbor}/{@code nextNeighbor}; en {@code GraphL},
+     * el de inserción), y cada vértice de la pila guarda un cursor a su siguiente arco para
+     * reanudar su lista en O(1).
+     */
+    public static TraversalResult dfs(IGraph graph, int start, AlgorithmListener listener) {
+        int n = graph.vertexCount();
+        checkVertex(n, start);
+        EdgeList arcs = graph.exportArcs();
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < arcs.size; e++) offsets[arcs.src[e] + 1]++;
+        for (int v = 0; v < n; v++) offsets[v + 1] += offsets[v];
+
+        int[] order = new int[n];
+        int[] parent = newFilled(n, -1);
+        boolean[] seen = new boolean[n];
+        int[] stack = new int[n];
+        int[] cursor = new int[n];
+        int top = 0;
+        int count = 0;
+
+        seen[start] = true;
+        order[count++] = start;
+        stack[top++] = start;
+        cursor[start] = offsets[start];
+        listener.vertexDiscovered(start);
+
+        while (top > 0) {
+            int u = stack[top - 1];
+            if (cursor[u] < offsets[u + 1]) {
+                int e = cursor[u]++;
+                int v = arcs.dst[e];
+                if (!seen[v]) {
+                    seen[v] = true;
+                    parent[v] = u;
+                    order[count++] = v;
+                    listener.edgeAccepted(u, v, arcs.w[e]);
+                    listener.vertexDiscovered(v);
+                    cursor[v] = offsets[v];
+                    stack[top++] = v;
+                }
+            } else {
+                top--;
+                listener.vertexFinished(u);
+            }
+        }
+        return new TraversalResult(order, parent, count);
+    }
+
+    public static TraversalResult bfs(IGraph graph, int start) {
+        return bfs(graph, start, AlgorithmListener.NONE);
+    }
+
+    /**
+     * Recorrido en anchura desde {@code start}. La cola es un arreglo de tamaño V que,
+     * al terminar, contiene el orden de descubrimiento.
+     */
+    public static TraversalResult bfs(IGraph graph, int start, AlgorithmListener listener) {
+        int n = graph.vertexCount();
+        checkVertex(n, start);
+
+        BfsVisitor visitor = new BfsVisitor(n, listener);
+        visitor.seen[start] = true;
+        visitor.queue[visitor.tail++] = start;
+        listener.vertexDiscovered(start);
+
+        for (int head = 0; head < visitor.tail; head++) {
+            int u = visitor.queue[head];
+            visitor.u = u;
+            graph.forEachNeighbor(u, visitor);
+            listener.vertexFinished(u);
+        }
+        return new TraversalResult(visitor.queue, visitor.parent, visitor.tail);
+    }
+
+    private static final class BfsVisitor implements IntIntConsumer {
+        final boolean[] seen;
+        final int[] parent;
+        final int[] queue;
+        final AlgorithmListener listener;
+        int tail;
+        int u;
+
+        BfsVisitor(int n, AlgorithmListener listener) {
+            this.seen = new boolean[n];
+            this.parent = newFilled(n, -1);
+            this.queue = new int[n];
+            this.listener = listener;
+        }
+
+        @Override
+        public void accept(int v, int weight) {
+            if (!seen[v]) {
+                seen[v] = true;
+                parent[v] = u;
+                queue[tail++] = v;
+                listener.edgeAccepted(u, v, weight);
+                listener.vertexDiscovered(v);
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------ Árbol de Expansión Mínima
+
+    public static MSTResult kruskal(IGraph graph) {
+        return kruskal(graph, AlgorithmListener.NONE);
+    }
+
+    /**
+     * Kruskal sobre las aristas (u, v) con u < v. Las aristas se ordenan por (peso, índice) con
+     * {@link EdgeSort} (conteo o radix, sin objetos {@code EdgeContext} ni comparaciones).
+     */
+    public static MSTResult kruskal(IGraph graph, AlgorithmListener listener) {
+        int n = graph.vertexCount();
+        EdgeList edges = graph.exportEdges();
+
+        int[] order = EdgeSort.byWeight(edges.w, edges.size);
+
+        MSTBuffer mst = new MSTBuffer(n);
+        UnionFind uf = new UnionFind(n);
+        for (int e : order) {
+            int u = edges.src[e];
+            int v = edges.dst[e];
+            int w = edges.w[e];
+            listener.edgeExamined(u, v, w);
+            if (uf.union(u, v)) {
+                mst.add(u, v, w);
+                listener.edgeAccepted(u, v, w);
+                if (mst.count == n - 1) break;
+            } else {
+                listener.edgeRejected(u, v, w);
+            }
+        }
+        return mst.toResult();
+    }
+
+    public static MSTResult prim(IGraph graph, int start) {
+        return prim(graph, start, AlgorithmListener.NONE);
+    }
+
+    /**
+     * Prim desde {@code start}. Mantiene una sola clave por vértice (la arista más ligera conocida
+     * hacia el árbol) en un {@link IndexedMinHeap} con decrease-key, y el padre en un {@code int[]};
+     * no crea objetos por arista ni deja entradas obsoletas en el montículo.
+     * Solo cubre la componente conexa de {@code start}, igual que {@link algorithms.GraphAlgorithms#runPrim};
+     * para grafos no conexos use {@link #primForest(IGraph)}.
+     */
+    public static MSTResult prim(IGraph graph, int start, AlgorithmListener listener) {
+        int n = graph.vertexCount();
+        checkVertex(n, start);
+
+        PrimVisitor visitor = new PrimVisitor(n, listener);
+        MSTBuffer mst = new MSTBuffer(n);
+        visitor.grow(graph, start, mst);
+        return mst.toResult();
+    }
+
+    public static MSTResult primForest(IGraph graph) {
+        return primForest(graph, AlgorithmListener.NONE);
+    }
+
+    /**
+     * Bosque de expansión mínima con Prim: al agotarse la componente actual se reinicia desde el
+     * siguiente vértice que no está en ningún árbol. El resultado tiene V - (número de componentes)
+     * aristas. El montículo y los arreglos se reservan una sola vez para todo el bosque.
+     */
+    public static MSTResult primForest(IGraph graph, AlgorithmListener listener) {
+        int n = graph.vertexCount();
+        PrimVisitor visitor = new PrimVisitor(n, listener);
+        MSTBuffer mst = new MSTBuffer(n);
+        for (int root = 0; root < n; root++) {
+            if (!visitor.inTree[root]) visitor.grow(graph, root, mst);
+        }
+        return mst.toResult();
+    }
+
+    private static final class PrimVisitor implements IntIntConsumer {
+        final boolean[] inTree;
+        final int[] key;
+        final int[] parent;
+        final IndexedMinHeap heap;
+        final AlgorithmListener listener;
+        int u;
+
+        PrimVisitor(int n, AlgorithmListener listener) {
+            this.inTree = new boolean[n];
+            this.key = newFilled(n, Integer.MAX_VALUE);
+            this.parent = newFilled(n, -1);
+            this.heap = new IndexedMinHeap(n);
+            this.listener = listener;
+        }
+
+        /**
+         * Hace crecer el árbol de {@code root} hasta agotar su componente.
+         */
+        void grow(IGraph graph, int root, MSTBuffer mst) {
+            key[root] = 0;
+            heap.add(root, 0);
+            listener.vertexDiscovered(root);
+
+            while (!heap.isEmpty()) {
+                int v = heap.poll();
+                inTree[v] = true;
+
+                int p = parent[v];
+                if (p != -1) {
+                    mst.add(p, v, key[v]);
+                    listener.edgeAccepted(p, v, key[v]);
+                }
+                listener.vertexFinished(v);
+
+                u = v;
+                graph.forEachNeighbor(v, this);
+            }
+        }
+
+        @Override
+        public void accept(int v, int weight) {
+            if (!inTree[v] && weight < key[v]) {
+                if (key[v] == Integer.MAX_VALUE) listener.vertexDiscovered(v);
+                key[v] = weight;
+                parent[v] = u;
+                heap.insertOrDecrease(v, weight);
+            }
+        }
+    }
+
+    public static MSTResult boruvka(IGraph graph) {
+        return boruvka(graph, AlgorithmListener.NONE);
+    }
+
+    /**
+     * Borůvka sobre las aristas (u, v) con u < v. El arreglo {@code cheapest} guarda índices de
+     * arista y se reutiliza en cada ronda; los empates se rompen por índice de arista.
+     */
+    public static MSTResult boruvka(IGraph graph, AlgorithmListener listener) {
+        int n = graph.vertexCount();
+        EdgeList edges = graph.exportEdges();
+        UnionFind uf = new UnionFind(n);
+        MSTBuffer mst = new MSTBuffer(n);
+        int[] cheapest = new int[n];
+
+        int components = n;
+        for (int round = 1; components > 1; round++) {
+            listener.iterationStarted(round);
+            Arrays.fill(cheapest, -1);
+
+            for (int e = 0; e < edges.size; e++) {
+                int a = uf.find(edges.src[e]);
+                int b = uf.find(edges.dst[e]);
+                if (a == b) continue;
+                if (cheapest[a] == -1 || lighter(edges, e, cheapest[a])) cheapest[a] = e;
+                if (cheapest[b] == -1 || lighter(edges, e, cheapest[b])) cheapest[b] = e;
+            }
+
+            boolean anyMerged = false;
+            for (int i = 0; i < n; i++) {
+                int e = cheapest[i];
+                if (e == -1) continue;
+                int u = edges.src[e];
+                int v = edges.dst[e];
+                if (uf.union(u, v)) {
+                    anyMerged = true;
+                    components--;
+                    mst.add(u, v, edges.w[e]);
+                    listener.edgeAccepted(u, v, edges.w[e]);
+                }
+            }
+            if (!anyMerged) break;
+        }
+        return mst.toResult();
+    }
+
+    private static boolean lighter(EdgeList edges, int e, int than) {
+        return edges.w[e] < edges.w[than] || (edges.w[e] == edges.w[than] && e < than);
+    }
+
+    public static MSTResult filterKruskal(IGraph graph) {
+        return filterKruskal(graph, AlgorithmListener.NONE);
+    }
+
+    /**
+     * Filter-Kruskal: en lugar de ordenar todas las aristas, las parte alrededor de un pivote,
+     * resuelve primero las ligeras y descarta de las pesadas las que ya quedaron dentro de una
+     * misma componente antes de seguir con ellas. En grafos de carreteras la mayoría de las
+     * aristas pesadas se descartan sin ordenarse nunca.
+     * <p>
+     * El orden es (peso, índice), el mismo de {@link #kruskal(IGraph)}, así que ambos devuelven
+     * exactamente el mismo árbol. Las aristas descartadas por el filtro no se notifican al listener.
+     */
+    public static MSTResult filterKruskal(IGraph graph, AlgorithmListener listener) {
+        int n = graph.vertexCount();
+        EdgeList edges = graph.exportEdges();
+        long[] keys = new long[edges.size];
+        for (int i = 0; i < edges.size; i++) {
+            keys[i] = PackedKeys.pack(edges.w[i], i);
+        }
+        MSTBuffer mst = new MSTBuffer(n);
+        filterKruskal(edges, keys, 0, keys.length, new UnionFind(n), mst, listener);
+        return mst.toResult();
+    }
+
+    /**
+     * Procesa las claves de {@code keys[from, to)}; al volver, todas están consumidas.
+     */
+    private static void filterKruskal(EdgeList edges, long[] keys, int from, int to,
+                                      UnionFind uf, MSTBuffer mst, AlgorithmListener listener) {
+        if (mst.count == mst.source.length || from >= to) return;
+        if (to - from <= FILTER_KRUSKAL_THRESHOLD) {
+            Arrays.sort(keys, from, to);
+            kruskalRange(edges, keys, from, to, uf, mst, listener);
+            return;
+        }
+
+        long pivot = medianOfThree(keys[from], keys[(from + to) >>> 1], keys[to - 1]);
+        int split = from;
+        for (int i = from; i < to; i++) {
+            if (keys[i] <= pivot) {
+                long tmp = keys[i];
+                keys[i] = keys[split];
+                keys[split++] = tmp;
+            }
+        }
+        filterKruskal(edges, keys, from, split, uf, mst, listener);
+
+        int kept = split;
+        for (int i = split; i < to; i++) {
+            int e = PackedKeys.value(keys[i]);
+            if (uf.find(edges.src[e]) != uf.find(edges.dst[e])) keys[kept++] = keys[i];
+        }
+        filterKruskal(edges, keys, split, kept, uf, mst, listener);
+    }
+
+    private static void kruskalRange(EdgeList edges, long[] keys, int from, int to,
+                                     UnionFind uf, MSTBuffer mst, AlgorithmListener listener) {
+        for (int i = from; i < to && mst.count < mst.source.length; i++) {
+            int e = PackedKeys.value(keys[i]);
+            int u = edges.src[e];
+            int v = edges.dst[e];
+            int w = edges.w[e];
+            listener.edgeExamined(u, v, w);
+            if (uf.union(u, v)) {
+                mst.add(u, v, w);
+                listener.edgeAccepted(u, v, w);
+            } else {
+                listener.edgeRejected(u, v, w);
+            }
+        }
+    }
+
+    private static long medianOfThree(long a, long b, long c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    public static MSTResult parallelBoruvka(IGraph graph) {
+        return parallelBoruvka(graph, AlgorithmListener.NONE);
+    }
+
+    /**
+     * Borůvka multihilo sobre un {@link ConcurrentUnionFind}. En cada ronda:
+     * - se etiqueta en paralelo cada vértice con su componente ({@code find} una vez por vértice,
+     *   no por arista);
+     * - la arista más barata de cada componente se busca en paralelo por bloques de aristas
+     *   ({@code ForkJoinPool} común), con mínimos atómicos sobre claves empaquetadas (peso, índice);
+     * - las aristas elegidas se unen en paralelo con CAS y las internas se eliminan de la lista.
+     * Los empates se rompen por índice de arista, así que el árbol es el mismo que el de
+     * {@link #boruvka(IGraph)}. El listener solo se invoca desde el hilo que llama.
+     */
+    public static MSTResult parallelBoruvka(IGraph graph, AlgorithmListener listener) {
+        int n = graph.vertexCount();
+        EdgeList edges = graph.exportEdges();
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+        MSTBuffer mst = new MSTBuffer(n);
+        int[] component = new int[n];
+        int[] accepted = new int[n];
+        AtomicLongArray cheapest = new AtomicLongArray(n);
+        int[] alive = new int[edges.size];
+        for (int e = 0; e < alive.length; e++) alive[e] = e;
+        int aliveCount = alive.length;
+
+        for (int round = 1; aliveCount > 0 && mst.count < mst.source.length; round++) {
+            listener.iterationStarted(round);
+            IntStream.range(0, n).parallel().forEach(v -> {
+                component[v] = uf.find(v);
+                cheapest.set(v, Long.MAX_VALUE);
+            });
+
+            final int size = aliveCount;
+            int chunks = (size + BORUVKA_CHUNK - 1) / BORUVKA_CHUNK;
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                int end = Math.min(size, (chunk + 1) * BORUVKA_CHUNK);
+                for (int i = chunk * BORUVKA_CHUNK; i < end; i++) {
+                    int e = alive[i];
+                    int a = component[edges.src[e]];
+                    int b = component[edges.dst[e]];
+                    if (a == b) continue;
+                    long key = PackedKeys.pack(edges.w[e], e);
+                    atomicMin(cheapest, a, key);
+                    atomicMin(cheapest, b, key);
+                }
+            });
+
+            // Dos componentes que eligen la misma arista compiten por el CAS; solo una la acepta.
+            IntStream.range(0, n).parallel().forEach(c -> {
+                long key = cheapest.get(c);
+                int e = key == Long.MAX_VALUE ? -1 : PackedKeys.value(key);
+                accepted[c] = e != -1 && uf.union(edges.src[e], edges.dst[e]) ? e : -1;
+            });
+
+            boolean anyMerged = false;
+            for (int c = 0; c < n; c++) {
+                int e = accepted[c];
+                if (e == -1) continue;
+                anyMerged = true;
+                mst.add(edges.src[e], edges.dst[e], edges.w[e]);
+                listener.edgeAccepted(edges.src[e], edges.dst[e], edges.w[e]);
+            }
+            if (!anyMerged) break;
+
+            int kept = 0;
+            for (int i = 0; i < aliveCount; i++) {
+                int e = alive[i];
+                if (uf.find(edges.src[e]) != uf.find(edges.dst[e])) alive[kept++] = e;
+            }
+            aliveCount = kept;
+        }
+        return mst.toResult();
+    }
+
+    /**
+     * Etiqueta las componentes conexas (tratando cada arco como arista no dirigida) en paralelo:
+     * une los extremos de cada arco por bloques sobre un {@link ConcurrentUnionFind} y después
+     * resuelve la raíz de cada vértice.
+     *
+     * @return para cada vértice, el representante de su componente (dos vértices están
+     *         conectados si y solo si tienen la misma etiqueta)
+     */
+    public static int[] connectedComponents(IGraph graph) {
+        int n = graph.vertexCount();
+        EdgeList arcs = graph.exportArcs();
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+        int chunks = (arcs.size + BORUVKA_CHUNK - 1) / BORUVKA_CHUNK;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int end = Math.min(arcs.size, (chunk + 1) * BORUVKA_CHUNK);
+            for (int e = chunk * BORUVKA_CHUNK; e < end; e++) {
+                uf.union(arcs.src[e], arcs.dst[e]);
+            }
+        });
+        int[] label = new int[n];
+        IntStream.range(0, n).parallel().forEach(v -> label[v] = uf.find(v));
+        return label;
+    }
+
+    private static void atomicMin(AtomicLongArray array, int i, long key) {
+        long current = array.get(i);
+        while (key < current && !array.compareAndSet(i, current, key)) {
+            current = array.get(i);
+        }
+    }
+
+    /**
+     * Acumula las aristas del MST en arreglos de tamaño V - 1.
+     */
+    private static final class MSTBuffer {
+        final int[] source;
+        final int[] dest;
+        final int[] weight;
+        int count;
+        int total;
+
+        MSTBuffer(int n) {
+            int capacity = Math.max(0, n - 1);
+            source = new int[capacity];
+            dest = new int[capacity];
+            weight = new int[capacity];
+        }
+
+        void add(int u, int v, int w) {
+            source[count] = u;
+            dest[count] = v;
+            weight[count] = w;
+            count++;
+            total += w;
+        }
+
+        MSTResult toResult() {
+            return new MSTResult(total, count, source, dest, weight);
+        }
+    }
+
+    // ------------------------------------------------------------------ Rutas más cortas
+
+    public static PathResult dijkstra(IGraph graph, int source, int target) {
+        return dijkstra(graph, source, target, AlgorithmListener.NONE);
+    }
+
+    /**
+     * Dijkstra desde {@code source}; se detiene al asentar {@code target}.
+     * Con {@code target = -1} calcula el árbol de rutas completo y {@code distance} queda en
+     * {@code Integer.MAX_VALUE}. Las aristas de peso negativo se ignoran.
+     * Para consultas repetidas conviene reutilizar una {@link DijkstraSearch}.
+     */
+    public static PathResult dijkstra(IGraph graph, int source, int target, AlgorithmListener listener) {
+        DijkstraSearch search = new DijkstraSearch(graph.vertexCount());
+        search.setListener(listener);
+        int distance = search.run(graph, source, target);
+        return new PathResult(source, target, distance, search.distArray(), search.parentArray());
+    }
+
+    /**
+     * Distancias desde un origen a un conjunto de destinos con una sola búsqueda, que se detiene
+     * en cuanto todos los destinos quedan asentados.
+     */
+    public static BatchPathResult oneToMany(IGraph graph, int source, int[] targets) {
+        return nearestSource(graph, new int[]{source}, targets);
+    }
+
+    /**
+     * Origen más cercano a cada destino (p. ej. el depósito más cercano a cada localidad):
+     * todos los orígenes se siembran con distancia 0, como un súper-origen, y una sola búsqueda
+     * cubre todos los destinos. Las aristas de peso negativo se ignoran.
+     */
+    public static BatchPathResult nearestSource(IGraph graph, int[] sources, int[] targets) {
+        DijkstraSearch search = new DijkstraSearch(graph.vertexCount());
+        search.run(graph, sources, targets);
+        int[] distance = new int[targets.length];
+        int[] nearest = new int[targets.length];
+        for (int k = 0; k < targets.length; k++) {
+            distance[k] = search.distance(targets[k]);
+            nearest[k] = distance[k] == Integer.MAX_VALUE ? -1 : search.origin(targets[k]);
+        }
+        return new BatchPathResult(sources, targets, distance, nearest, search.parentArray(), search.settledCount());
+    }
+
+    public static PathResult bellmanFord(IGraph graph, int source, int target) {
+        return bellmanFord(graph, source, target, AlgorithmListener.NONE);
+    }
+
+    /**
+     * Bellman-Ford desde {@code source} con corte temprano cuando una iteración no mejora nada.
+     * Si hay un ciclo negativo alcanzable, {@code distance} es {@code Integer.MIN_VALUE} y
+     * {@link PathResult#negativeCycle} contiene sus vértices.
+     * Con {@code target = -1} {@code distance} queda en {@code Integer.MAX_VALUE}.
+     * <p>
+     * Las relajaciones se calculan en {@code long}, así que ni la detección de ciclos ni las rutas
+     * que pasan por sumas intermedias fuera de rango se ven afectadas; solo al final, una distancia
+     * que no cabe en {@code int} (por arriba o por abajo) se informa como {@code Integer.MAX_VALUE}.
+     * Para obtenerla use {@link #bellmanFordLong} (ver {@link #requiresLongDistances(IGraph)}).
+     */
+    public static PathResult bellmanFord(IGraph graph, int source, int target, AlgorithmListener listener) {
+        int n = graph.vertexCount();
+        checkVertex(n, source);
+        if (target != -1) checkVertex(n, target);
+
+        EdgeList edges = graph.exportArcs();
+        long[] dist = new long[n];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        int[] parent = newFilled(n, -1);
+        dist[source] = 0;
+        listener.vertexDiscovered(source);
+
+        for (int iter = 1; iter < n; iter++) {
+            listener.iterationStarted(iter);
+            boolean changed = false;
+            for (int e = 0; e < edges.size; e++) {
+                int u = edges.src[e];
+                if (dist[u] == Long.MAX_VALUE) continue;
+                int v = edges.dst[e];
+                long nd = dist[u] + edges.w[e];
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    parent[v] = u;
+                    changed = true;
+                    listener.distanceImproved(u, v, saturate(nd));
+                }
+            }
+            if (!changed) break;
+        }
+
+        for (int e = 0; e < edges.size; e++) {
+            int u = edges.src[e];
+            int v = edges.dst[e];
+            if (dist[u] != Long.MAX_VALUE && dist[u] + edges.w[e] < dist[v]) {
+                parent[v] = u;
+                return toIntResult(new LongPathResult(source, target, Long.MIN_VALUE, dist, parent,
+                        negativeCycle(parent, v)));
+            }
+        }
+
+        long distance = target == -1 ? Long.MAX_VALUE : dist[target];
+        return toIntResult(new LongPathResult(source, target, distance, dist, parent, new int[0]));
+    }
+
+    public static PathResult spfa(IGraph graph, int source, int target) {
+        return spfa(graph, source, target, AlgorithmListener.NONE);
+    }
+
+    /**
+     * Bellman-Ford con cola (SPFA): solo vuelve a relajar los arcos de los vértices cuya distancia
+     * cambió, y termina en cuanto la cola se vacía. Recorre una copia CSR del grafo.
+     * <p>
+     * Cada vértice guarda el número de arcos de su ruta tentativa; cuando llega a V, la cadena
+     * de predecesores ya no puede ser simple y se recorre para extraer el ciclo negativo, que
+     * queda en {@link PathResult#negativeCycle} con {@code distance = Integer.MIN_VALUE}.
+     * Con {@code target = -1} {@code distance} queda en {@code Integer.MAX_VALUE}.
+     * <p>
+     * Se ejecuta con distancias {@code long} ({@link #bellmanFordLong}) para que una suma fuera
+     * de rango no oculte el ciclo ni dé una ruta falsa; al final, una distancia que no cabe en
+     * {@code int} se informa como {@code Integer.MAX_VALUE}.
+     */
+    public static PathResult spfa(IGraph graph, int source, int target, AlgorithmListener listener) {
+        return toIntResult(bellmanFordLong(graph, source, target, listener));
+    }
+
+    /**
+     * Pasa un resultado con distancias {@code long} al convenio de {@link PathResult}. Las distancias
+     * fuera del rango de {@code int} se informan como {@code Integer.MAX_VALUE}, igual que las rutas
+     * que desbordarían en los demás algoritmos {@code int}; {@code Integer.MIN_VALUE} queda reservado
+     * para el ciclo negativo.
+     */
+    private static PathResult toIntResult(LongPathResult result) {
+        int[] dist = new int[result.dist.length];
+        for (int v = 0; v < dist.length; v++) dist[v] = fitInt(result.dist[v]);
+        int distance = result.hasNegativeCycle() ? Integer.MIN_VALUE : fitInt(result.distance);
+        return new PathResult(result.source, result.target, distance, dist, result.parent, result.negativeCycle);
+    }
+
+    private static int fitInt(long distance) {
+        return distance > Integer.MIN_VALUE && distance < Integer.MAX_VALUE ? (int) distance : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Busca un ciclo en la cadena de predecesores que parte de {@code v}: tras V pasos sin llegar
+     * a la raíz ({@code -1}) el recorrido ya está dentro del ciclo, que se devuelve en el
+     * sentido de los arcos. En Bellman-Ford todo ciclo de predecesores tiene peso negativo.
+     *
+     * @return vértices del ciclo, o arreglo vacío si la cadena termina en la raíz
+     */
+    static int[] negativeCycle(int[] parent, int v) {
+        int n = parent.length;
+        int cur = v;
+        for (int i = 0; i < n && cur != -1; i++) cur = parent[cur];
+        if (cur == -1) return new int[0];
+
+        int count = 1;
+        for (int x = parent[cur]; x != cur; x = parent[x]) count++;
+        int[] cycle = new int[count];
+        int x = cur;
+        for (int i = count - 1; i >= 0; i--) {
+            cycle[i] = x;
+            x = parent[x];
+        }
+        return cycle;
+    }
+
+    // ------------------------------------------------------------------ Rutas con distancias long
+
+    /**
+     * Indica si alguna ruta simple del grafo podría exceder el rango de {@code int}:
+     * (V - 1) · max|peso| &ge; {@code Integer.MAX_VALUE}; con pesos negativos cubre también las sumas
+     * por debajo de {@code Integer.MIN_VALUE}. Si es así, las variantes {@code int} descartan las
+     * relajaciones que desbordarían o informan como {@code Integer.MAX_VALUE} las distancias fuera de
+     * rango (el destino aparece inalcanzable) y deben usarse {@link #dijkstraLong} o
+     * {@link #bellmanFordLong}. Cuesta O(V + E).
+     */
+    public static boolean requiresLongDistances(IGraph graph) {
+        int n = graph.vertexCount();
+        long[] maxWeight = {0};
+        for (int u = 0; u < n; u++) {
+            graph.forEachNeighbor(u, (v, w) -> maxWeight[0] = Math.max(maxWeight[0], Math.abs((long) w)));
+        }
+        return (n - 1) * maxWeight[0] >= Integer.MAX_VALUE;
+    }
+
+    public static LongPathResult dijkstraLong(IGraph graph, int source, int target) {
+        return dijkstraLong(graph, source, target, AlgorithmListener.NONE);
+    }
+
+    /**
+     * {@link #dijkstra(IGraph, int, int, AlgorithmListener)} con distancias {@code long}.
+     * Para consultas repetidas conviene reutilizar una {@link LongDijkstraSearch}.
+     */
+    public static LongPathResult dijkstraLong(IGraph graph, int source, int target, AlgorithmListener listener) {
+        LongDijkstraSearch search = new LongDijkstraSearch(graph.vertexCount());
+        search.setListener(listener);
+        long distance = search.run(graph, source, target);
+        return new LongPathResult(source, target, distance, search.distArray(), search.parentArray(), new int[0]);
+    }
+
+    public static LongPathResult bellmanFordLong(IGraph graph, int source, int target) {
+        return bellmanFordLong(graph, source, target, AlgorithmListener.NONE);
+    }
+
+    /**
+     * Bellman-Ford con cola (ver {@link #spfa(IGraph, int, int, AlgorithmListener)}) con distancias
+     * {@code long}: misma cola, mismo corte temprano y misma extracción del ciclo negativo.
+     */
+    public static LongPathResult bellmanFordLong(IGraph graph, int source, int target, AlgorithmListener listener) {
+        int n = graph.vertexCount();
+        checkVertex(n, source);
+        if (target != -1) checkVertex(n, target);
+
+        GraphCSR csr = GraphCSR.copyOf(graph);
+        long[] dist = new long[n];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        int[] parent = newFilled(n, -1);
+        int[] length = new int[n];
+        boolean[] queued = new boolean[n];
+        int[] queue = new int[n];
+        int head = 0;
+        int size = 1;
+
+        dist[source] = 0;
+        queue[0] = source;
+        queued[source] = true;
+        listener.vertexDiscovered(source);
+
+        while (size > 0) {
+            int u = queue[head];
+            head = head + 1 == n ? 0 : head + 1;
+            size--;
+            queued[u] = false;
+            listener.vertexFinished(u);
+
+            long du = dist[u];
+            for (int e = csr.edgeStart(u), end = csr.edgeEnd(u); e < end; e++) {
+                int v = csr.edgeTarget(e);
+                long nd = du + csr.edgeWeight(e);
+                if (nd >= dist[v]) continue;
+
+                dist[v] = nd;
+                parent[v] = u;
+                length[v] = length[u] + 1;
+                listener.distanceImproved(u, v, saturate(nd));
+                if (length[v] >= n) {
+                    int[] cycle = negativeCycle(parent, v);
+                    if (cycle.length > 0) {
+                        return new LongPathResult(source, target, Long.MIN_VALUE, dist, parent, cycle);
+                    }
+                    length[v] = 0;
+                    for (int cur = parent[v]; cur != -1; cur = parent[cur]) length[v]++;
+                }
+                if (!queued[v]) {
+                    queued[v] = true;
+                    queue[(head + size) % n] = v;
+                    size++;
+                }
+            }
+        }
+
+        long distance = target == -1 ? Long.MAX_VALUE : dist[target];
+        return new LongPathResult(source, target, distance, dist, parent, new int[0]);
+    }
+
+    // ------------------------------------------------------------------ Utilidades
+
+    static int[] newFilled(int n, int value) {
+        int[] a = new int[n];
+        Arrays.fill(a, value);
+        return a;
+    }
+
+    /**
+     * Recorta una distancia {@code long} al rango de {@code int} para los observadores.
+     */
+    static int saturate(long distance) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, distance));
+    }
+
+    static void checkVertex(int n, int v) {
+        if (v < 0 || v >= n) {
+            throw new IllegalArgumentException("Vértice fuera de rango: " + v);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package algorithms.engine;
+
+/**
+ * Estimación de la distancia restante para búsquedas informadas ({@link AStarSearch}).
+ * <p>
+ * Para que A* devuelva rutas exactas la estimación debe ser una cota inferior de la distancia real
+ * (admisible); si además es consistente ({@code h(u) <= w(u, v) + h(v)}) cada vértice se asienta
+ * una sola vez.
+ */
+@FunctionalInterface
+public interface Heuristic {
+
+    /**
+     * Heurística nula: A* se comporta exactamente como Dijkstra.
+     */
+    Heuristic ZERO = (v, target) -> 0;
+
+    /**
+     * @param v      vértice actual
+     * @param target vértice destino de la consulta
+     * @return cota inferior de la distancia de v a target
+     */
+    int estimate(int v, int target);
+
+    /**
+     * Combina dos heurísticas tomando el máximo; si ambas son admisibles (o consistentes),
+     * el resultado también lo es y nunca es menos informado que cualquiera de ellas.
+     */
+    default Heuristic max(Heuristic other) {
+        return (v, target) -> Math.max(estimate(v, target), other.estimate(v, target));
+    }
+}
@@ -0,0 +1,178 @@
+package algorithms.engine;
+
+import java.util.Arrays;
+
+/**
+ * Montículo d-ario mínimo indexado sobre elementos enteros en [0, capacidad) con prioridades {@code int}.
+ * <p>
+ * Cada elemento aparece a lo sumo una vez: {@link #pos} guarda su posición en el montículo,
+ * lo que permite {@link #decreaseKey(int, int)} en O(log_d n) y acota el tamaño a la capacidad
+ * (V en los algoritmos de rutas), en vez de crecer hasta O(E) como la eliminación perezosa.
+ * No reserva memoria después de construirse y puede reutilizarse entre consultas con {@link #clear()}.
+ */
+public class IndexedMinHeap {
+    private final int arity;
+    private final int[] heap;
+    private final int[] priority;
+    private final int[] pos;
+    private int size;
+
+    /**
+     * Crea un montículo 4-ario.
+     * @param capacity número de elementos posibles (0..capacity-1)
+     */
+    public IndexedMinHeap(int capacity) {
+        this(capacity, 4);
+    }
+
+    /**
+     * @param capacity número de elementos posibles (0..capacity-1)
+     * @param arity    número de hijos por nodo (>= 2)
+     */
+    public IndexedMinHeap(int capacity, int arity) {
+        if (arity < 2) throw new IllegalArgumentException("La aridad debe ser >= 2");
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.priority = new int[capacity];
+        this.pos = new int[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    public int capacity() {
+        return heap.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int item) {
+        return pos[item] != -1;
+    }
+
+    /**
+     * @return prioridad actual de un elemento contenido en el montículo.
+     */
+    public int priority(int item) {
+        return priority[item];
+    }
+
+    /**
+     * Vacía el montículo en O(tamaño actual), dejándolo listo para otra consulta.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            pos[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    /**
+     * Inserta un elemento que no está en el montículo.
+     */
+    public void add(int item, int p) {
+        if (pos[item] != -1) throw new IllegalStateException("Elemento ya presente: " + item);
+        priority[item] = p;
+        heap[size] = item;
+        pos[item] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Reduce la prioridad de un elemento contenido en el montículo.
+     */
+    public void decreaseKey(int item, int p) {
+        priority[item] = p;
+        siftUp(pos[item]);
+    }
+
+    /**
+     * Inserta el elemento o reduce su prioridad si la nueva es menor.
+     * @return true si el montículo cambió
+     */
+    public boolean insertOrDecrease(int item, int p) {
+        if (pos[item] == -1) {
+            add(item, p);
+            return true;
+        }
+        if (p < priority[item]) {
+            decreaseKey(item, p);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return elemento de menor prioridad, sin extraerlo.
+     */
+    public int peek() {
+        return heap[0];
+    }
+
+    /**
+     * @return la menor prioridad del montículo.
+     */
+    public int peekPriority() {
+        return priority[heap[0]];
+    }
+
+    /**
+     * Extrae el elemento de menor prioridad.
+     */
+    public int poll() {
+        int top = heap[0];
+        pos[top] = -1;
+        if (--size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            pos[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int i) {
+        int item = heap[i];
+        int p = priority[item];
+        while (i > 0) {
+            int parent = (i - 1) / arity;
+            int parentItem = heap[parent];
+            if (priority[parentItem] <= p) break;
+            heap[i] = parentItem;
+            pos[parentItem] = i;
+            i = parent;
+        }
+        heap[i] = item;
+        pos[item] = i;
+    }
+
+    private void siftDown(int i) {
+        int item = heap[i];
+        int p = priority[item];
+        while (true) {
+            int first = i * arity + 1;
+            if (first >= size) break;
+            int last = Math.min(first + arity, size);
+            int best = first;
+            int bestPriority = priority[heap[first]];
+            for (int c = first + 1; c < last; c++) {
+                int cp = priority[heap[c]];
+                if (cp < bestPriority) {
+                    best = c;
+                    bestPriority = cp;
+                }
+            }
+            if (bestPriority >= p) break;
+            int bestItem = heap[best];
+            heap[i] = bestItem;
+            pos[bestItem] = i;
+            i = best;
+        }
+        heap[i] = item;
+        pos[item] = i;
+    }
+}
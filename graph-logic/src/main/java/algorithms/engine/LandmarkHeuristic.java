@@ -0,0 +1,140 @@
+package algorithms.engine;
+
+import graphs.GraphCSR;
+import interfaces.IGraph;
+import java.util.stream.IntStream;
+
+/**
+ * Heurística ALT (A*, Landmarks, Triangle inequality) para consultas punto a punto.
+ * <p>
+ * Para cada landmark L se precalculan d(L, v) y d(v, L) para todo v; por la desigualdad triangular
+ * {@code d(v, t) >= d(L, t) - d(L, v)} y {@code d(v, t) >= d(v, L) - d(t, L)}. La estimación es el
+ * máximo de esas cotas sobre todos los landmarks, por lo que es admisible y consistente sin
+ * depender de coordenadas: funciona con cualquier peso entero no negativo de {@link IGraph}.
+ * <p>
+ * Las distancias se guardan intercaladas por vértice ({@code v * k + i}) para que una estimación
+ * lea posiciones contiguas. Las 2K búsquedas de Dijkstra se ejecutan en paralelo, cada tarea con
+ * su propio {@link DijkstraSearch}, que se libera al terminarla.
+ */
+public class LandmarkHeuristic implements Heuristic {
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final int k;
+    private final int[] landmarks;
+    private final int[] from;
+    private final int[] to;
+
+    private LandmarkHeuristic(int[] landmarks, int[] from, int[] to) {
+        this.k = landmarks.length;
+        this.landmarks = landmarks;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Elige {@code count} landmarks por el criterio del punto más lejano y precalcula sus distancias.
+     *
+     * @param graph grafo con pesos no negativos
+     * @param count número de landmarks (se acota al número de vértices)
+     * @throws IllegalArgumentException si V · landmarks no cabe en un arreglo
+     */
+    public static LandmarkHeuristic farthest(IGraph graph, int count) {
+        return of(graph, selectFarthest(graph, count));
+    }
+
+    /**
+     * Precalcula las distancias desde y hacia los landmarks indicados.
+     *
+     * @param graph     grafo con pesos no negativos
+     * @param landmarks vértices a usar como landmarks
+     * @throws IllegalArgumentException si un landmark está fuera de rango o V · landmarks no cabe en un arreglo
+     */
+    public static LandmarkHeuristic of(IGraph graph, int[] landmarks) {
+        int n = graph.vertexCount();
+        for (int l : landmarks) GraphEngine.checkVertex(n, l);
+        int k = landmarks.length;
+        if ((long) n * k > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Demasiados landmarks para " + n + " vértices: " + k);
+        }
+        int[] from = new int[n * k];
+        int[] to = new int[n * k];
+        GraphCSR forward = GraphCSR.copyOf(graph);
+        GraphCSR backward = GraphCSR.transposeOf(graph);
+
+        IntStream.range(0, 2 * k).parallel().forEach(job -> {
+            int i = job % k;
+            boolean reverse = job >= k;
+            DijkstraSearch search = new DijkstraSearch(n);
+            search.run(reverse ? backward : forward, landmarks[i], -1);
+            int[] table = reverse ? to : from;
+            for (int v = 0; v < n; v++) table[v * k + i] = search.distance(v);
+        });
+        return new LandmarkHeuristic(landmarks.clone(), from, to);
+    }
+
+    /**
+     * Selección de landmarks por punto más lejano: el primero es el vértice más lejano al vértice 0
+     * y cada uno de los siguientes maximiza la distancia al landmark más cercano ya elegido.
+     * Los vértices inalcanzables cuentan como infinitamente lejanos, así que cada componente
+     * recibe al menos un landmark mientras alcance el número pedido.
+     */
+    static int[] selectFarthest(IGraph graph, int count) {
+        int n = graph.vertexCount();
+        count = Math.min(count, n);
+        int[] landmarks = new int[count];
+        if (count == 0) return landmarks;
+
+        GraphCSR csr = GraphCSR.copyOf(graph);
+        DijkstraSearch search = new DijkstraSearch(n);
+        int[] nearest = GraphEngine.newFilled(n, INF);
+
+        search.run(csr, 0, -1);
+        int current = argMax(search, n, 0);
+        for (int i = 0; i < count; i++) {
+            landmarks[i] = current;
+            search.run(csr, current, -1);
+            for (int v = 0; v < n; v++) nearest[v] = Math.min(nearest[v], search.distance(v));
+            nearest[current] = -1;
+            current = 0;
+            for (int v = 1; v < n; v++) {
+                if (nearest[v] > nearest[current]) current = v;
+            }
+        }
+        return landmarks;
+    }
+
+    /**
+     * @return vértice alcanzado más lejano en la última búsqueda, o {@code fallback} si no hay otro.
+     */
+    private static int argMax(DijkstraSearch search, int n, int fallback) {
+        int best = fallback;
+        for (int v = 0; v < n; v++) {
+            int d = search.distance(v);
+            if (d != INF && d > search.distance(best)) best = v;
+        }
+        return best;
+    }
+
+    @Override
+    public int estimate(int v, int target) {
+        int best = 0;
+        int vi = v * k;
+        int ti = target * k;
+        for (int i = 0; i < k; i++) {
+            int lv = from[vi + i];
+            int lt = from[ti + i];
+            if (lv != INF && lt != INF && lt - lv > best) best = lt - lv;
+            int vl = to[vi + i];
+            int tl = to[ti + i];
+            if (vl != INF && tl != INF && vl - tl > best) best = vl - tl;
+        }
+        return best;
+    }
+
+    /**
+     * @return copia de los landmarks usados.
+     */
+    public int[] landmarks() {
+        return landmarks.clone();
+    }
+}
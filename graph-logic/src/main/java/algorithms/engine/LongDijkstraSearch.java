@@ -0,0 +1,151 @@
+package algorithms.engine;
+
+import interfaces.IGraph;
+import interfaces.IntIntConsumer;
+import java.util.Arrays;
+
+/**
+ * Dijkstra reutilizable con distancias {@code long}, para grafos cuyas rutas pueden sumar más
+ * de {@code Integer.MAX_VALUE} (por ejemplo, redes viales nacionales con pesos en metros).
+ * <p>
+ * Misma estrategia que {@link DijkstraSearch}: {@link LongIndexedMinHeap} con decrease-key y
+ * reinicio solo de los vértices tocados por la consulta anterior. La infinidad es
+ * {@code Long.MAX_VALUE}. A los observadores se les informa la distancia saturada a
+ * {@code Integer.MAX_VALUE}, ya que {@link AlgorithmListener} trabaja con {@code int}.
+ * {@link GraphEngine#requiresLongDistances(IGraph)} indica cuándo hace falta este modo.
+ * <p>
+ * No es seguro para hilos: use una instancia por hilo.
+ */
+public class LongDijkstraSearch {
+    private final long[] dist;
+    private final int[] parent;
+    private final LongIndexedMinHeap heap;
+    private final int[] touched;
+    private int touchedCount;
+    private int settledCount;
+    private final Relaxer relaxer = new Relaxer();
+
+    private AlgorithmListener listener = AlgorithmListener.NONE;
+
+    /**
+     * @param n número máximo de vértices de los grafos a consultar
+     */
+    public LongDijkstraSearch(int n) {
+        dist = new long[n];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        parent = GraphEngine.newFilled(n, -1);
+        heap = new LongIndexedMinHeap(n);
+        touched = new int[n];
+    }
+
+    public void setListener(AlgorithmListener listener) {
+        this.listener = listener == null ? AlgorithmListener.NONE : listener;
+    }
+
+    /**
+     * Ejecuta Dijkstra desde {@code source} y se detiene al asentar {@code target}.
+     * Con {@code target = -1} calcula el árbol de rutas completo. Las aristas negativas se ignoran.
+     *
+     * @return distancia a {@code target}, o {@code Long.MAX_VALUE} si es inalcanzable o {@code target = -1}
+     */
+    public long run(IGraph graph, int source, int target) {
+        int n = graph.vertexCount();
+        if (n > dist.length) {
+            throw new IllegalArgumentException("El grafo excede la capacidad de la búsqueda: " + n);
+        }
+        GraphEngine.checkVertex(n, source);
+        if (target != -1) GraphEngine.checkVertex(n, target);
+
+        reset();
+        touched[touchedCount++] = source;
+        dist[source] = 0;
+        parent[source] = -1;
+        heap.add(source, 0);
+        listener.vertexDiscovered(source);
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            settledCount++;
+            listener.vertexFinished(u);
+            if (u == target) break;
+
+            relaxer.u = u;
+            relaxer.du = dist[u];
+            graph.forEachNeighbor(u, relaxer);
+        }
+        return target == -1 ? Long.MAX_VALUE : dist[target];
+    }
+
+    private final class Relaxer implements IntIntConsumer {
+        int u;
+        long du;
+
+        @Override
+        public void accept(int v, int weight) {
+            if (weight < 0) return;
+            long nd = du + weight;
+            if (nd < dist[v]) {
+                if (dist[v] == Long.MAX_VALUE) touched[touchedCount++] = v;
+                dist[v] = nd;
+                parent[v] = u;
+                heap.insertOrDecrease(v, nd);
+                listener.distanceImproved(u, v, GraphEngine.saturate(nd));
+            }
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < touchedCount; i++) {
+            int v = touched[i];
+            dist[v] = Long.MAX_VALUE;
+            parent[v] = -1;
+        }
+        touchedCount = 0;
+        settledCount = 0;
+        heap.clear();
+    }
+
+    /**
+     * @return distancia tentativa/final a v de la última consulta, o {@code Long.MAX_VALUE}.
+     */
+    public long distance(int v) {
+        return dist[v];
+    }
+
+    /**
+     * @return predecesor de v en la última consulta, o -1.
+     */
+    public int parent(int v) {
+        return parent[v];
+    }
+
+    /**
+     * @return número de vértices extraídos del montículo en la última consulta.
+     */
+    public int settledCount() {
+        return settledCount;
+    }
+
+    /**
+     * Reconstruye la ruta hasta {@code target} de la última consulta.
+     * @return vértices desde el origen hasta {@code target}, o arreglo vacío si no se alcanzó
+     */
+    public int[] path(int target) {
+        if (dist[target] == Long.MAX_VALUE) return new int[0];
+        int length = 1;
+        for (int cur = target; parent[cur] != -1; cur = parent[cur]) length++;
+        int[] path = new int[length];
+        for (int cur = target, i = length - 1; i >= 0; cur = parent[cur], i--) {
+            path[i] = cur;
+        }
+        return path;
+    }
+
+    long[] distArray() {
+        return dist;
+    }
+
+    int[] parentArray() {
+        return parent;
+    }
+}
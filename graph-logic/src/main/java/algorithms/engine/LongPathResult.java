@@ -0,0 +1,61 @@
+package algorithms.engine;
+
+/**
+ * Resultado de un cálculo de ruta más corta con distancias {@code long}
+ * ({@link GraphEngine#dijkstraLong}, {@link GraphEngine#bellmanFordLong}).
+ * <p>
+ * Mismas convenciones que {@link PathResult} con los límites de {@code long}:
+ * - {@code Long.MAX_VALUE} indica destino inalcanzable.
+ * - {@code Long.MIN_VALUE} indica que se detectó un ciclo negativo.
+ */
+public class LongPathResult {
+    public final int source;
+    public final int target;
+    /** Distancia final al destino (ver convenciones). */
+    public final long distance;
+    /** Distancias tentativas/finales desde el origen; {@code Long.MAX_VALUE} si no se alcanzó. */
+    public final long[] dist;
+    /** Predecesor de cada vértice en el árbol de rutas, o -1. */
+    public final int[] parent;
+    /** Vértices de un ciclo negativo en orden de recorrido, o arreglo vacío. */
+    public final int[] negativeCycle;
+
+    public LongPathResult(int source, int target, long distance, long[] dist, int[] parent, int[] negativeCycle) {
+        this.source = source;
+        this.target = target;
+        this.distance = distance;
+        this.dist = dist;
+        this.parent = parent;
+        this.negativeCycle = negativeCycle;
+    }
+
+    /**
+     * @return true si existe una ruta válida hasta el destino.
+     */
+    public boolean isReachable() {
+        return distance != Long.MAX_VALUE && distance != Long.MIN_VALUE;
+    }
+
+    /**
+     * @return true si el cálculo terminó al encontrar un ciclo negativo alcanzable.
+     */
+    public boolean hasNegativeCycle() {
+        return negativeCycle.length > 0;
+    }
+
+    /**
+     * Reconstruye la ruta desde el origen hasta el destino siguiendo {@link #parent}.
+     *
+     * @return vértices de la ruta en orden, o un arreglo vacío si no hay ruta
+     */
+    public int[] path() {
+        if (!isReachable()) return new int[0];
+        int length = 1;
+        for (int cur = target; cur != source; cur = parent[cur]) length++;
+        int[] path = new int[length];
+        for (int cur = target, i = length - 1; i >= 0; cur = parent[cur], i--) {
+            path[i] = cur;
+        }
+        return path;
+    }
+}
@@ -0,0 +1,22 @@
+package algorithms.engine;
+
+/**
+ * Resultado de un algoritmo de Árbol de Expansión Mínima ejecutado por {@link GraphEngine}.
+ * Las aristas seleccionadas se guardan en arreglos paralelos; solo las primeras
+ * {@link #edgeCount} posiciones son válidas.
+ */
+public class MSTResult {
+    public final int totalWeight;
+    public final int edgeCount;
+    public final int[] source;
+    public final int[] dest;
+    public final int[] weight;
+
+    public MSTResult(int totalWeight, int edgeCount, int[] source, int[] dest, int[] weight) {
+        this.totalWeight = totalWeight;
+        this.edgeCount = edgeCount;
+        this.source = source;
+        this.dest = dest;
+        this.weight = weight;
+    }
+}
@@ -0,0 +1,26 @@
+package algorithms.engine;
+
+/**
+ * Claves {@code long} que empaquetan una prioridad {@code int} en los 32 bits altos y un valor
+ * {@code int} (índice de arista o vértice) en los 32 bits bajos.
+ * <p>
+ * Ordenar un {@code long[]} de estas claves ordena por (prioridad, valor) sin comparadores ni un
+ * objeto por elemento, y en una reducción atómica el mínimo de las claves da la prioridad mínima
+ * con desempate por valor.
+ */
+public final class PackedKeys {
+    private PackedKeys() {
+    }
+
+    public static long pack(int priority, int value) {
+        return ((long) priority << 32) | (value & 0xFFFFFFFFL);
+    }
+
+    public static int priority(long key) {
+        return (int) (key >> 32);
+    }
+
+    public static int value(long key) {
+        return (int) key;
+    }
+}
@@ -0,0 +1,67 @@
+package algorithms.engine;
+
+/**
+ * Resultado de un cálculo de ruta más corta ejecutado por {@link GraphEngine}.
+ * <p>
+ * Convenciones (las mismas que {@link algorithms.GraphAlgorithms.ShortestPathResult}):
+ * - {@code Integer.MAX_VALUE} indica destino inalcanzable.
+ * - {@code Integer.MIN_VALUE} indica que se detectó un ciclo negativo.
+ */
+public class PathResult {
+    public final int source;
+    public final int target;
+    /** Distancia final al destino (ver convenciones). */
+    public final int distance;
+    /** Distancias tentativas/finales desde el origen; {@code Integer.MAX_VALUE} si no se alcanzó. */
+    public final int[] dist;
+    /** Predecesor de cada vértice en el árbol de rutas, o -1. */
+    public final int[] parent;
+    /**
+     * Vértices de un ciclo negativo en orden de recorrido (el último vuelve al primero),
+     * o arreglo vacío si no se detectó ninguno.
+     */
+    public final int[] negativeCycle;
+
+    public PathResult(int source, int target, int distance, int[] dist, int[] parent) {
+        this(source, target, distance, dist, parent, new int[0]);
+    }
+
+    public PathResult(int source, int target, int distance, int[] dist, int[] parent, int[] negativeCycle) {
+        this.source = source;
+        this.target = target;
+        this.distance = distance;
+        this.dist = dist;
+        this.parent = parent;
+        this.negativeCycle = negativeCycle;
+    }
+
+    /**
+     * @return true si el cálculo terminó al encontrar un ciclo negativo alcanzable.
+     */
+    public boolean hasNegativeCycle() {
+        return negativeCycle.length > 0;
+    }
+
+    /**
+     * @return true si existe una ruta válida hasta el destino.
+     */
+    public boolean isReachable() {
+        return distance != Integer.MAX_VALUE && distance != Integer.MIN_VALUE;
+    }
+
+    /**
+     * Reconstruye la ruta desde el origen hasta el destino siguiendo {@link #parent}.
+     *
+     * @return vértices de la ruta en orden, o un arreglo vacío si no hay ruta
+     */
+    public int[] path() {
+        if (!isReachable()) return new int[0];
+        int length = 1;
+        for (int cur = target; cur != source; cur = parent[cur]) length++;
+        int[] path = new int[length];
+        for (int cur = target, i = length - 1; i >= 0; cur = parent[cur], i--) {
+            path[i] = cur;
+        }
+        return path;
+    }
+}
@@ -0,0 +1,26 @@
+package algorithms.engine;
+
+/**
+ * Resultado de un recorrido (DFS o BFS) ejecutado por {@link GraphEngine}.
+ */
+public class TraversalResult {
+    /** Vértices en orden de descubrimiento; solo las primeras {@link #count} posiciones son válidas. */
+    public final int[] order;
+    /** Padre de cada vértice en el árbol del recorrido, o -1 si es la raíz o no fue alcanzado. */
+    public final int[] parent;
+    /** Número de vértices alcanzados desde el inicio. */
+    public final int count;
+
+    public TraversalResult(int[] order, int[] parent, int count) {
+        this.order = order;
+        this.parent = parent;
+        this.count = count;
+    }
+
+    /**
+     * @return true si el vértice v fue alcanzado por el recorrido.
+     */
+    public boolean reached(int v) {
+        return parent[v] != -1 || (count > 0 && order[0] == v);
+    }
+}
@@ -0,0 +1,72 @@
+package algorithms.engine;
+
+import algorithms.GraphAlgorithms;
+import interfaces.IVisualizer;
+import interfaces.VisitState;
+
+/**
+ * Adaptador que traduce los eventos de {@link GraphEngine} a llamadas sobre un {@link IVisualizer}:
+ * marca vértices y aristas, muestra un mensaje, espera y respeta la pausa de la GUI.
+ * <p>
+ * Es la única pieza que construye mensajes y duerme el hilo; el motor no paga ese costo
+ * cuando se ejecuta sin listener. Las marcas de los vértices se escriben en el {@link VisitState}
+ * de la ejecución; se espera que el llamador invoque {@link IVisualizer#resetVisuals()} y
+ * suscriba ese estado con {@link IVisualizer#attachVisitState(VisitState)} antes de ejecutar el algoritmo.
+ */
+public class VisualizerListener implements AlgorithmListener {
+    private final IVisualizer visual;
+    private final VisitState marks;
+
+    public VisualizerListener(IVisualizer visual, VisitState marks) {
+        this.visual = visual;
+        this.marks = marks;
+    }
+
+    @Override
+    public void vertexDiscovered(int v) {
+        if (marks.get(v) != VisitState.BLACK) marks.set(v, VisitState.GRAY);
+        step("Descubriendo (GRIS): " + v, 500);
+    }
+
+    @Override
+    public void vertexFinished(int v) {
+        marks.set(v, VisitState.BLACK);
+        step("Terminando (NEGRO): " + v, 500);
+    }
+
+    @Override
+    public void edgeExamined(int u, int v, int weight) {
+        visual.markEdge(u, v, true);
+        step("Analizando conexión: " + u + " - " + v + " (Peso: " + weight + ")", 600);
+    }
+
+    @Override
+    public void edgeAccepted(int u, int v, int weight) {
+        visual.markEdge(u, v, true);
+        step("Arista aceptada: " + u + " -> " + v + " (Peso: " + weight + ")", 500);
+    }
+
+    @Override
+    public void edgeRejected(int u, int v, int weight) {
+        visual.markEdge(u, v, false);
+        step("RECHAZADA (Ciclo): " + u + " - " + v, 300);
+    }
+
+    @Override
+    public void distanceImproved(int u, int v, int distance) {
+        marks.set(v, VisitState.GRAY);
+        visual.markEdge(u, v, true);
+        step("  -> Actualizando vecino " + v + ". Nueva dist: " + distance, 300);
+        visual.markEdge(u, v, false);
+    }
+
+    @Override
+    public void iterationStarted(int iteration) {
+        step("Iteración " + iteration, 500);
+    }
+
+    private void step(String message, int milliseconds) {
+        visual.pauseAndRedraw(message, milliseconds);
+        GraphAlgorithms.checkPause();
+    }
+}
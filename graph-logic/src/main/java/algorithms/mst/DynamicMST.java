@@ -0,0 +1,362 @@
+package algorithms.mst;
+
+import algorithms.engine.EdgeSort;
+import algorithms.engine.MSTResult;
+import interfaces.EdgeList;
+import interfaces.IGraph;
+import java.util.Arrays;
+
+/**
+ * Bosque de expansión mínima que se mantiene al insertar, cambiar de peso o eliminar aristas,
+ * sin volver a ejecutar Kruskal.
+ * <p>
+ * Algoritmo:
+ * - El bosque vive en un {@link LinkCutTree}; cada arista de árbol es un nodo intermedio con su
+ *   peso como valor, de modo que la arista más pesada de un camino se obtiene en O(log V) amortizado.
+ * - Inserción o disminución de peso (u, v, w): si u y v están en árboles distintos se enlazan;
+ *   si no, se busca la arista más pesada del ciclo u..v y se reemplaza si pesa más que w.
+ * - Eliminación o aumento de peso de una arista de árbol: se corta y se busca la arista de reemplazo
+ *   más ligera entre los dos lados. Los dos lados se recorren a la vez por aristas de árbol y se
+ *   detiene en cuanto uno termina, así que solo se revisan las aristas del lado menor.
+ * <p>
+ * Las aristas son no dirigidas, igual que en {@code runKruskal} (el par (u, v) y (v, u) es la misma).
+ * La arista (u, v) se localiza recorriendo la lista de incidencia del extremo de menor grado, sin
+ * tabla auxiliar: O(min(grado(u), grado(v))), unas pocas posiciones en grafos de carreteras.
+ * Un peso 0 equivale a "sin arista", como en {@link IGraph}. No es segura para hilos.
+ */
+public class DynamicMST {
+    private final int n;
+    private final LinkCutTree forest;
+
+    // Aristas por ranura; las ranuras liberadas se reutilizan.
+    private int[] edgeU = new int[16];
+    private int[] edgeV = new int[16];
+    private int[] edgeW = new int[16];
+    private int[] posU = new int[16];
+    private int[] posV = new int[16];
+    private boolean[] inTree = new boolean[16];
+    private int[] free = new int[16];
+    private int freeCount;
+    private int slots;
+
+    // Incidencia: ranuras de las aristas que tocan a cada vértice.
+    private final int[][] incident;
+    private final int[] incidentSize;
+
+    private long totalWeight;
+    private int treeEdges;
+
+    // Búsqueda de reemplazo: dos BFS alternadas sobre aristas de árbol.
+    private final int[] side;
+    private int stamp;
+    private final int[] queueA;
+    private final int[] queueB;
+
+    /**
+     * Crea la estructura para n vértices sin aristas.
+     */
+    public DynamicMST(int n) {
+        this.n = n;
+        this.forest = new LinkCutTree(n + 16);
+        this.incident = new int[n][];
+        this.incidentSize = new int[n];
+        for (int v = 0; v < n; v++) incident[v] = new int[4];
+        this.side = new int[n];
+        this.queueA = new int[n];
+        this.queueB = new int[n];
+    }
+
+    /**
+     * Construye la estructura con las aristas no dirigidas de {@code graph}. El bosque inicial se
+     * obtiene con Kruskal, así que las aristas que no entran no pagan búsquedas de ciclo.
+     */
+    public static DynamicMST of(IGraph graph) {
+        DynamicMST mst = new DynamicMST(graph.vertexCount());
+        EdgeList edges = graph.exportEdges();
+        UnionFind uf = new UnionFind(graph.vertexCount());
+        for (int e : EdgeSort.byWeight(edges.w, edges.size)) {
+            int u = edges.src[e];
+            int v = edges.dst[e];
+            int slot = mst.newSlot(u, v, edges.w[e]);
+            if (uf.union(u, v)) mst.linkTreeEdge(slot);
+        }
+        return mst;
+    }
+
+    /**
+     * Inserta la arista (u, v) o cambia su peso, actualizando el bosque.
+     * Un peso 0 no hace nada, igual que {@link IGraph#setEdge(int, int, int)}.
+     */
+    public void setEdge(int u, int v, int weight) {
+        checkVertex(u);
+        checkVertex(v);
+        if (weight == 0 || u == v) return;
+        int e = slotOf(u, v);
+        if (e == -1) {
+            insert(newSlot(u, v, weight));
+            return;
+        }
+
+        int old = edgeW[e];
+        if (weight == old) return;
+        if (!inTree[e]) {
+            edgeW[e] = weight;
+            if (weight < old) offer(e);
+        } else if (weight < old) {
+            edgeW[e] = weight;
+            forest.setValue(n + e, weight);
+            totalWeight += weight - old;
+        } else {
+            cutTreeEdge(e);
+            edgeW[e] = weight;
+            reconnect(edgeU[e], edgeV[e]);
+            if (!inTree[e]) offer(e);
+        }
+    }
+
+    /**
+     * Elimina la arista (u, v) si existe; si era del bosque, busca la arista de reemplazo.
+     */
+    public void deleteEdge(int u, int v) {
+        checkVertex(u);
+        checkVertex(v);
+        int e = slotOf(u, v);
+        if (e == -1) return;
+        boolean wasTree = inTree[e];
+        if (wasTree) cutTreeEdge(e);
+        removeIncidence(e);
+        free[freeCount++] = e;
+        if (wasTree) reconnect(u, v);
+    }
+
+    /**
+     * @return peso total del bosque actual.
+     */
+    public long totalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * @return número de aristas del bosque (V - número de componentes).
+     */
+    public int edgeCount() {
+        return treeEdges;
+    }
+
+    /**
+     * @return true si la arista (u, v) existe y pertenece al bosque.
+     */
+    public boolean isTreeEdge(int u, int v) {
+        checkVertex(u);
+        checkVertex(v);
+        int e = slotOf(u, v);
+        return e != -1 && inTree[e];
+    }
+
+    /**
+     * @return true si u y v están en el mismo árbol.
+     */
+    public boolean connected(int u, int v) {
+        return forest.connected(u, v);
+    }
+
+    /**
+     * Copia las aristas actuales del bosque en un {@link MSTResult}.
+     */
+    public MSTResult toResult() {
+        int[] source = new int[treeEdges];
+        int[] dest = new int[treeEdges];
+        int[] weight = new int[treeEdges];
+        int count = 0;
+        for (int e = 0; e < slots; e++) {
+            if (!inTree[e]) continue;
+            source[count] = edgeU[e];
+            dest[count] = edgeV[e];
+            weight[count] = edgeW[e];
+            count++;
+        }
+        return new MSTResult((int) totalWeight, count, source, dest, weight);
+    }
+
+    // ------------------------------------------------------------------ Bosque
+
+    /**
+     * Considera una arista nueva o abaratada que no está en el bosque (reemplazo por máximo del ciclo).
+     */
+    private void insert(int e) {
+        int u = edgeU[e];
+        int v = edgeV[e];
+        if (!forest.connected(u, v)) {
+            linkTreeEdge(e);
+        } else {
+            offer(e);
+        }
+    }
+
+    private void offer(int e) {
+        int heaviest = forest.pathMax(edgeU[e], edgeV[e]) - n;
+        if (edgeW[heaviest] > edgeW[e]) {
+            cutTreeEdge(heaviest);
+            linkTreeEdge(e);
+        }
+    }
+
+    private void linkTreeEdge(int e) {
+        int node = n + e;
+        forest.setValue(node, edgeW[e]);
+        forest.link(edgeU[e], node);
+        forest.link(node, edgeV[e]);
+        inTree[e] = true;
+        treeEdges++;
+        totalWeight += edgeW[e];
+    }
+
+    private void cutTreeEdge(int e) {
+        int node = n + e;
+        forest.cut(edgeU[e], node);
+        forest.cut(node, edgeV[e]);
+        forest.setValue(node, Integer.MIN_VALUE);
+        inTree[e] = false;
+        treeEdges--;
+        totalWeight -= edgeW[e];
+    }
+
+    /**
+     * Tras cortar una arista entre a y b, enlaza la arista más ligera que vuelva a unir ambos lados.
+     * Recorre los dos lados a la vez por aristas de árbol; el primero que se agota es el menor, y
+     * solo se revisan las aristas incidentes a sus vértices.
+     */
+    private void reconnect(int a, int b) {
+        stamp += 2;
+        int markA = stamp;
+        int markB = stamp + 1;
+        side[a] = markA;
+        side[b] = markB;
+        queueA[0] = a;
+        queueB[0] = b;
+        int headA = 0, tailA = 1;
+        int headB = 0, tailB = 1;
+
+        int[] smaller;
+        int size;
+        int mark;
+        while (true) {
+            if (headA == tailA) {
+                smaller = queueA;
+                size = tailA;
+                mark = markA;
+                break;
+            }
+            if (headB == tailB) {
+                smaller = queueB;
+                size = tailB;
+                mark = markB;
+                break;
+            }
+            tailA = expand(queueA[headA++], queueA, tailA, markA);
+            tailB = expand(queueB[headB++], queueB, tailB, markB);
+        }
+
+        int best = -1;
+        for (int i = 0; i < size; i++) {
+            int x = smaller[i];
+            for (int k = 0; k < incidentSize[x]; k++) {
+                int e = incident[x][k];
+                if (inTree[e]) continue;
+                int other = edgeU[e] == x ? edgeV[e] : edgeU[e];
+                if (side[other] == mark) continue;
+                if (best == -1 || edgeW[e] < edgeW[best]) best = e;
+            }
+        }
+        if (best != -1) linkTreeEdge(best);
+    }
+
+    private int expand(int x, int[] queue, int tail, int mark) {
+        for (int k = 0; k < incidentSize[x]; k++) {
+            int e = incident[x][k];
+            if (!inTree[e]) continue;
+            int other = edgeU[e] == x ? edgeV[e] : edgeU[e];
+            if (side[other] != mark) {
+                side[other] = mark;
+                queue[tail++] = other;
+            }
+        }
+        return tail;
+    }
+
+    // ------------------------------------------------------------------ Almacén de aristas
+
+    /**
+     * @return ranura de la arista (u, v), o -1 si no existe. Se busca en la lista de incidencia
+     *         del extremo de menor grado.
+     */
+    private int slotOf(int u, int v) {
+        int x = incidentSize[u] <= incidentSize[v] ? u : v;
+        int target = x == u ? v : u;
+        int[] list = incident[x];
+        for (int k = 0; k < incidentSize[x]; k++) {
+            int e = list[k];
+            int other = edgeU[e] == x ? edgeV[e] : edgeU[e];
+            if (other == target) return e;
+        }
+        return -1;
+    }
+
+    private int newSlot(int u, int v, int weight) {
+        int e;
+        if (freeCount > 0) {
+            e = free[--freeCount];
+        } else {
+            e = slots++;
+            if (e == edgeU.length) growSlots(e * 2);
+            forest.ensureCapacity(n + slots);
+        }
+        edgeU[e] = u;
+        edgeV[e] = v;
+        edgeW[e] = weight;
+        inTree[e] = false;
+        posU[e] = addIncidence(u, e);
+        posV[e] = addIncidence(v, e);
+        return e;
+    }
+
+    private void growSlots(int capacity) {
+        edgeU = Arrays.copyOf(edgeU, capacity);
+        edgeV = Arrays.copyOf(edgeV, capacity);
+        edgeW = Arrays.copyOf(edgeW, capacity);
+        posU = Arrays.copyOf(posU, capacity);
+        posV = Arrays.copyOf(posV, capacity);
+        inTree = Arrays.copyOf(inTree, capacity);
+        free = Arrays.copyOf(free, capacity);
+    }
+
+    private int addIncidence(int v, int e) {
+        if (incidentSize[v] == incident[v].length) {
+            incident[v] = Arrays.copyOf(incident[v], incidentSize[v] * 2);
+        }
+        incident[v][incidentSize[v]] = e;
+        return incidentSize[v]++;
+    }
+
+    private void removeIncidence(int e) {
+        removeAt(edgeU[e], posU[e]);
+        removeAt(edgeV[e], posV[e]);
+    }
+
+    /**
+     * Quita la posición pos de la lista de v moviendo ahí la última arista y corrigiendo su posición.
+     */
+    private void removeAt(int v, int pos) {
+        int last = --incidentSize[v];
+        int moved = incident[v][last];
+        incident[v][pos] = moved;
+        if (edgeU[moved] == v && posU[moved] == last) posU[moved] = pos;
+        else posV[moved] = pos;
+    }
+
+    private void checkVertex(int v) {
+        if (v < 0 || v >= n) {
+            throw new IllegalArgumentException("Vértice fuera de rango: " + v);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package algorithms.mst;
+
+import java.util.Arrays;
+
+/**
+ * Árbol link-cut (Sleator–Tarjan) con consulta del nodo de valor máximo en un camino.
+ * <p>
+ * Cada nodo guarda un valor; {@link #pathMax(int, int)} devuelve el nodo de mayor valor en el
+ * camino entre dos nodos del mismo árbol. Todas las operaciones cuestan O(log n) amortizado.
+ * Los hijos, padres y agregados viven en arreglos primitivos que crecen con {@link #ensureCapacity(int)}.
+ * Uso interno de {@link DynamicMST}, donde las aristas se representan como nodos intermedios.
+ */
+final class LinkCutTree {
+    private int[] left;
+    private int[] right;
+    private int[] parent;
+    private boolean[] reversed;
+    private int[] value;
+    private int[] max;
+    private int[] stack;
+
+    LinkCutTree(int capacity) {
+        left = new int[0];
+        right = new int[0];
+        parent = new int[0];
+        reversed = new boolean[0];
+        value = new int[0];
+        max = new int[0];
+        stack = new int[0];
+        ensureCapacity(capacity);
+    }
+
+    /**
+     * Garantiza espacio para los nodos [0, capacity); los nodos nuevos quedan aislados con valor mínimo.
+     */
+    void ensureCapacity(int capacity) {
+        int old = left.length;
+        if (capacity <= old) return;
+        capacity = Math.max(capacity, old * 2);
+        left = grow(left, capacity, -1);
+        right = grow(right, capacity, -1);
+        parent = grow(parent, capacity, -1);
+        value = grow(value, capacity, Integer.MIN_VALUE);
+        reversed = Arrays.copyOf(reversed, capacity);
+        max = Arrays.copyOf(max, capacity);
+        for (int x = old; x < capacity; x++) max[x] = x;
+        stack = new int[capacity];
+    }
+
+    private static int[] grow(int[] array, int capacity, int fill) {
+        int old = array.length;
+        array = Arrays.copyOf(array, capacity);
+        Arrays.fill(array, old, capacity, fill);
+        return array;
+    }
+
+    /**
+     * Cambia el valor de un nodo (debe llamarse con el nodo en cualquier estado).
+     */
+    void setValue(int x, int v) {
+        access(x);
+        value[x] = v;
+        pull(x);
+    }
+
+    int value(int x) {
+        return value[x];
+    }
+
+    /**
+     * Hace a x raíz de su árbol representado.
+     */
+    void makeRoot(int x) {
+        access(x);
+        reversed[x] ^= true;
+    }
+
+    int findRoot(int x) {
+        access(x);
+        push(x);
+        while (left[x] != -1) {
+            x = left[x];
+            push(x);
+        }
+        splay(x);
+        return x;
+    }
+
+    boolean connected(int x, int y) {
+        return x == y || findRoot(x) == findRoot(y);
+    }
+
+    /**
+     * Une x (raíz de otro árbol tras hacerla raíz) como hijo de y.
+     */
+    void link(int x, int y) {
+        makeRoot(x);
+        parent[x] = y;
+    }
+
+    /**
+     * Elimina la arista de árbol (x, y).
+     */
+    void cut(int x, int y) {
+        makeRoot(x);
+        access(y);
+        // Tras access(y), x es el hijo izquierdo de y y no tiene hijo derecho.
+        left[y] = -1;
+        parent[x] = -1;
+        pull(y);
+    }
+
+    /**
+     * @return nodo de mayor valor en el camino x..y (ambos en el mismo árbol)
+     */
+    int pathMax(int x, int y) {
+        makeRoot(x);
+        access(y);
+        return max[y];
+    }
+
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p == -1 || (left[p] != x && right[p] != x);
+    }
+
+    private void pull(int x) {
+        int best = x;
+        int l = left[x];
+        int r = right[x];
+        if (l != -1 && value[max[l]] > value[best]) best = max[l];
+        if (r != -1 && value[max[r]] > value[best]) best = max[r];
+        max[x] = best;
+    }
+
+    private void push(int x) {
+        if (!reversed[x]) return;
+        int l = left[x];
+        left[x] = right[x];
+        right[x] = l;
+        if (left[x] != -1) reversed[left[x]] ^= true;
+        if (right[x] != -1) reversed[right[x]] ^= true;
+        reversed[x] = false;
+    }
+
+    private void rotate(int x) {
+        int y = parent[x];
+        int z = parent[y];
+        boolean xIsLeft = left[y] == x;
+        if (!isSplayRoot(y)) {
+            if (left[z] == y) left[z] = x;
+            else right[z] = x;
+        }
+        parent[x] = z;
+        if (xIsLeft) {
+            int b = right[x];
+            left[y] = b;
+            if (b != -1) parent[b] = y;
+            right[x] = y;
+        } else {
+            int b = left[x];
+            right[y] = b;
+            if (b != -1) parent[b] = y;
+            left[x] = y;
+        }
+        parent[y] = x;
+        pull(y);
+        pull(x);
+    }
+
+    private void splay(int x) {
+        int top = 0;
+        stack[top++] = x;
+        for (int y = x; !isSplayRoot(y); y = parent[y]) stack[top++] = parent[y];
+        while (top > 0) push(stack[--top]);
+
+        while (!isSplayRoot(x)) {
+            int y = parent[x];
+            if (!isSplayRoot(y)) {
+                int z = parent[y];
+                rotate((left[y] == x) == (left[z] == y) ? y : x);
+            }
+            rotate(x);
+        }
+    }
+
+    private void access(int x) {
+        int last = -1;
+        for (int y = x; y != -1; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            pull(y);
+            last = y;
+        }
+        splay(x);
+    }
+}
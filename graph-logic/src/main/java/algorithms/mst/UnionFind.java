@@ -2,24 +2,37 @@ package algorithms.mst;
 
 /**
  * Estructura de datos Union-Find (Disjoint Set Union, DSU) con:
- * - Compresión de caminos en {@link #find(int)}
+ * - Compresión de caminos en {@link #find(int)}, iterativa (sin riesgo de desbordar la pila en
+ *   cadenas largas); opcionalmente por mitades ("path halving"), que hace una sola pasada
  * - Unión por rango en {@link #union(int, int)}
  *
  * Uso típico: algoritmos de componentes disjuntas y, en este proyecto,
  * la detección de ciclos durante Kruskal para el Árbol de Expansión Mínima (MST).
  *
  * Complejidad: amortizada casi constante por operación, O(α(n)),
- * donde α es la inversa de la función de Ackermann.
+ * donde α es la inversa de la función de Ackermann, en ambos modos.
+ * No es segura para hilos; para uso concurrente ver {@link ConcurrentUnionFind}.
  */
 public class UnionFind {
     private int[] parent;
     private int[] rank;
+    private final boolean pathHalving;
 
     /**
      * Crea una estructura de N conjuntos disjuntos, cada elemento en su propio conjunto.
      * @param n número de elementos (0..n-1)
      */
     public UnionFind(int n) {
+        this(n, false);
+    }
+
+    /**
+     * @param n           número de elementos (0..n-1)
+     * @param pathHalving true para comprimir por mitades (cada nodo del camino apunta a su abuelo)
+     *                    en una sola pasada; false para compresión completa en dos pasadas
+     */
+    public UnionFind(int n, boolean pathHalving) {
+        this.pathHalving = pathHalving;
         parent = new int[n];
         rank = new int[n];
         for (int i = 0; i < n; i++) {
@@ -30,15 +43,28 @@ public class UnionFind {
 
     /**
      * Encuentra el representante (raíz) del conjunto que contiene a i.
-     * Aplica compresión de caminos.
+     * Aplica compresión de caminos (completa o por mitades, según el modo).
      * @param i elemento
      * @return índice de la raíz del conjunto
      */
     public int find(int i) {
-        if (parent[i] != i) {
-            parent[i] = find(parent[i]);
+        if (pathHalving) {
+            while (parent[i] != i) {
+                parent[i] = parent[parent[i]];
+                i = parent[i];
+            }
+            return i;
+        }
+        int root = i;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        while (parent[i] != root) {
+            int next = parent[i];
+            parent[i] = root;
+            i = next;
         }
-        return parent[i];
+        return root;
     }
 
     /**
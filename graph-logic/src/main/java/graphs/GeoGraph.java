@@ -0,0 +1,138 @@
+package graphs;
+import interfaces.EdgeList;
+import interfaces.GraphChangeListener;
+import interfaces.IGeoGraph;
+import interfaces.IGraph;
+import interfaces.IntIntConsumer;
+
+/**
+ * Implementación de {@link IGeoGraph} que agrega coordenadas a cualquier {@link IGraph}.
+ *
+ * Características:
+ * - Delega todas las operaciones del grafo (aristas y marcas) en el grafo envuelto,
+ *   por lo que conserva su representación y su costo ({@link GraphM}, {@link GraphL}, {@link GraphCSR}...).
+ * - Las coordenadas se guardan en dos arreglos {@code int[]} paralelos.
+ */
+public class GeoGraph implements IGeoGraph {
+    private final IGraph graph;
+    private final int[] xs;
+    private final int[] ys;
+
+    /**
+     * @param graph grafo a envolver
+     * @param xs    coordenada x de cada vértice
+     * @param ys    coordenada y de cada vértice
+     */
+    public GeoGraph(IGraph graph, int[] xs, int[] ys) {
+        if (xs.length < graph.vertexCount() || ys.length < graph.vertexCount()) {
+            throw new IllegalArgumentException("Faltan coordenadas para " + graph.vertexCount() + " vértices");
+        }
+        this.graph = graph;
+        this.xs = xs;
+        this.ys = ys;
+    }
+
+    /**
+     * @return grafo envuelto
+     */
+    public IGraph getGraph() {
+        return graph;
+    }
+
+    @Override
+    public int x(int v) {
+        return xs[v];
+    }
+
+    @Override
+    public int y(int v) {
+        return ys[v];
+    }
+
+    @Override
+    public void init(int n) {
+        throw new UnsupportedOperationException("GeoGraph no puede cambiar su número de vértices");
+    }
+
+    @Override
+    public int vertexCount() {
+        return graph.vertexCount();
+    }
+
+    @Override
+    public int edgeCount() {
+        return graph.edgeCount();
+    }
+
+    @Override
+    public int version() {
+        return graph.version();
+    }
+
+    @Override
+    public int firstNeighbor(int v) {
+        return graph.firstNeighbor(v);
+    }
+
+    @Override
+    public int nextNeighbor(int v, int after) {
+        return graph.nextNeighbor(v, after);
+    }
+
+    @Override
+    public void forEachNeighbor(int v, IntIntConsumer action) {
+        graph.forEachNeighbor(v, action);
+    }
+
+    @Override
+    public EdgeList exportArcs() {
+        return graph.exportArcs();
+    }
+
+    @Override
+    public EdgeList exportEdges() {
+        return graph.exportEdges();
+    }
+
+    @Override
+    public void setEdge(int i, int j, int weight) {
+        graph.setEdge(i, j, weight);
+    }
+
+    @Override
+    public void deleteEdge(int i, int j) {
+        graph.deleteEdge(i, j);
+    }
+
+    @Override
+    public void addChangeListener(GraphChangeListener listener) {
+        graph.addChangeListener(listener);
+    }
+
+    @Override
+    public void removeChangeListener(GraphChangeListener listener) {
+        graph.removeChangeListener(listener);
+    }
+
+    @Override
+    public boolean isEdge(int i, int j) {
+        return graph.isEdge(i, j);
+    }
+
+    @Override
+    public int weight(int i, int j) {
+        return graph.weight(i, j);
+    }
+
+    @Override
+    @Deprecated
+    public void setMark(int v, int value) {
+        graph.setMark(v, value);
+    }
+
+    @Override
+    @Deprecated
+    public int getMark(int v) {
+        return graph.getMark(v);
+    }
+}
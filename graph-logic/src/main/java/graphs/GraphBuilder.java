@@ -0,0 +1,222 @@
+package graphs;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Construye un {@link GraphCSR} a partir de arcos agregados desde varios hilos a la vez.
+ * <p>
+ * Cada hilo escribe en su propio búfer de arreglos primitivos (sin bloqueos ni objetos por arco).
+ * {@link #build()} reparte los arcos de todos los búferes por vértice de origen, ordena cada fila
+ * por destino, elimina duplicados y compacta el resultado; cada fase se ejecuta en paralelo.
+ * Frente a llamar {@link GraphL#setEdge(int, int, int)} arista por arista (búsqueda O(grado) de
+ * duplicados y un objeto {@link Edge} por sentido), el costo total es O(E log grado) y escala con
+ * los núcleos.
+ * <p>
+ * Reglas: los arcos con peso 0 se ignoran; si un arco (u, v) se agrega varias veces se conserva
+ * el de menor peso, ya que entre hilos no hay un "último" bien definido. {@link #build()} debe
+ * llamarse cuando ningún hilo esté agregando arcos y después de sincronizarse con ellos
+ * (p. ej. {@code join}, {@code Future.get} o el fin de un stream paralelo).
+ * <p>
+ * {@link #build()} consume los arcos: libera los búferes en cuanto los copia, de modo que los
+ * hilos de un pool que los usaron no retienen ~12 bytes por arco junto al grafo final, y el
+ * constructor queda vacío para construir otro grafo.
+ */
+public class GraphBuilder {
+    /** Vértices por tarea al ordenar y compactar filas en paralelo. */
+    private static final int CHUNK = 4096;
+
+    private final int numVertex;
+    private final Queue<Buffer> buffers = new ConcurrentLinkedQueue<>();
+    /** Se reemplaza en cada {@link #build()} para que ningún hilo siga escribiendo en un búfer liberado. */
+    private volatile ThreadLocal<Buffer> local = ThreadLocal.withInitial(this::newBuffer);
+
+    /**
+     * @param n número de vértices del grafo a construir
+     */
+    public GraphBuilder(int n) {
+        if (n < 0) throw new IllegalArgumentException("Número de vértices inválido: " + n);
+        this.numVertex = n;
+    }
+
+    private Buffer newBuffer() {
+        Buffer buffer = new Buffer();
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    /**
+     * Agrega el arco dirigido u -> v. Seguro para hilos.
+     */
+    public void addArc(int u, int v, int weight) {
+        checkVertex(u);
+        checkVertex(v);
+        if (weight != 0) local.get().add(u, v, weight);
+    }
+
+    /**
+     * Agrega los arcos u -> v y v -> u con el mismo peso, como una arista de {@link GraphL}.
+     * Seguro para hilos.
+     */
+    public void addEdge(int u, int v, int weight) {
+        checkVertex(u);
+        checkVertex(v);
+        if (weight == 0) return;
+        Buffer buffer = local.get();
+        buffer.add(u, v, weight);
+        if (u != v) buffer.add(v, u, weight);
+    }
+
+    /**
+     * Agrega {@code size} arcos dirigidos dados en arreglos paralelos, con una sola consulta
+     * al búfer del hilo. Seguro para hilos.
+     */
+    public void addArcs(int[] src, int[] dst, int[] w, int size) {
+        Buffer buffer = local.get();
+        for (int e = 0; e < size; e++) {
+            checkVertex(src[e]);
+            checkVertex(dst[e]);
+            if (w[e] != 0) buffer.add(src[e], dst[e], w[e]);
+        }
+    }
+
+    private void checkVertex(int v) {
+        if (v < 0 || v >= numVertex) {
+            throw new IllegalArgumentException("Vértice fuera de rango: " + v);
+        }
+    }
+
+    /**
+     * @return número de arcos agregados desde el último {@link #build()}, contando duplicados.
+     */
+    public long arcCount() {
+        long total = 0;
+        for (Buffer buffer : buffers) total += buffer.size;
+        return total;
+    }
+
+    /**
+     * Ordena, depura y congela los arcos agregados en un {@link GraphCSR}, y vacía el constructor:
+     * los arcos agregados después pertenecen al siguiente grafo.
+     *
+     * @throws IllegalStateException si hay más arcos de los que caben en un GraphCSR; en ese caso
+     *                               el constructor conserva sus arcos
+     */
+    public GraphCSR build() {
+        int n = numVertex;
+        Buffer[] parts = buffers.toArray(new Buffer[0]);
+        long total = 0;
+        for (Buffer part : parts) total += part.size;
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Demasiados arcos para un GraphCSR: " + total);
+        }
+        local = ThreadLocal.withInitial(this::newBuffer);
+        buffers.clear();
+
+        // 1-2. Grado de salida (con duplicados) de cada vértice y reparto por origen. La clave
+        // (destino, peso) hace que el primero de cada destino sea el de menor peso.
+        int[] start = new int[n + 1];
+        long[] keys;
+        if (parts.length == 1) {
+            // Un solo búfer: no hay escritores concurrentes y los contadores simples bastan.
+            Buffer part = parts[0];
+            for (int e = 0; e < part.size; e++) start[part.src[e] + 1]++;
+            for (int v = 0; v < n; v++) start[v + 1] += start[v];
+            int[] fill = Arrays.copyOf(start, n);
+            keys = new long[start[n]];
+            for (int e = 0; e < part.size; e++) keys[fill[part.src[e]]++] = key(part, e);
+            part.release();
+        } else {
+            AtomicIntegerArray degree = new AtomicIntegerArray(n);
+            Arrays.stream(parts).parallel().forEach(part -> {
+                for (int e = 0; e < part.size; e++) degree.getAndIncrement(part.src[e]);
+            });
+            for (int v = 0; v < n; v++) start[v + 1] = start[v] + degree.get(v);
+            AtomicIntegerArray fill = new AtomicIntegerArray(Arrays.copyOf(start, n));
+            long[] shared = new long[start[n]];
+            Arrays.stream(parts).parallel().forEach(part -> {
+                for (int e = 0; e < part.size; e++) shared[fill.getAndIncrement(part.src[e])] = key(part, e);
+                part.release();
+            });
+            keys = shared;
+        }
+
+        // 3. Orden y depuración de cada fila en su propio rango, por bloques de vértices.
+        int[] unique = new int[n + 1];
+        int chunks = (n + CHUNK - 1) / CHUNK;
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            for (int v = c * CHUNK, end = Math.min(n, v + CHUNK); v < end; v++) {
+                int from = start[v];
+                int to = start[v + 1];
+                if (to - from > 1) Arrays.sort(keys, from, to);
+                int out = from;
+                for (int i = from; i < to; i++) {
+                    if (out > from && (keys[out - 1] >>> 32) == (keys[i] >>> 32)) continue;
+                    keys[out++] = keys[i];
+                }
+                unique[v + 1] = out - from;
+            }
+        });
+
+        // 4. Compactación en los arreglos finales.
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) offsets[v + 1] = offsets[v] + unique[v + 1];
+        int[] targets = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            for (int v = c * CHUNK, end = Math.min(n, v + CHUNK); v < end; v++) {
+                int from = start[v];
+                int out = offsets[v];
+                for (int i = 0, count = unique[v + 1]; i < count; i++, out++) {
+                    long key = keys[from + i];
+                    targets[out] = (int) (key >>> 32);
+                    weights[out] = (int) key ^ Integer.MIN_VALUE;
+                }
+            }
+        });
+        return new GraphCSR(n, offsets, targets, weights);
+    }
+
+    private static long key(Buffer part, int e) {
+        return ((long) part.dst[e] << 32) | ((part.w[e] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Arcos de un hilo en arreglos paralelos que crecen por duplicación. Solo su hilo los modifica.
+     */
+    private static final class Buffer {
+        private static final int[] EMPTY = new int[0];
+
+        int[] src = new int[1024];
+        int[] dst = new int[1024];
+        int[] w = new int[1024];
+        int size;
+
+        /**
+         * Suelta los arreglos; el objeto vacío puede quedar referenciado por el ThreadLocal de un
+         * hilo de pool hasta que su entrada se limpie, pero ya no retiene los arcos.
+         */
+        void release() {
+            src = EMPTY;
+            dst = EMPTY;
+            w = EMPTY;
+            size = 0;
+        }
+
+        void add(int u, int v, int weight) {
+            int s = size;
+            if (s == src.length) {
+                int capacity = s * 2;
+                src = Arrays.copyOf(src, capacity);
+                dst = Arrays.copyOf(dst, capacity);
+                w = Arrays.copyOf(w, capacity);
+            }
+            src[s] = u;
+            dst[s] = v;
+            w[s] = weight;
+            size = s + 1;
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package graphs;
+import interfaces.EdgeList;
+import interfaces.IGraph;
+import interfaces.IntIntConsumer;
+import java.util.Arrays;
+
+/**
+ * Implementación inmutable de {@link IGraph} en formato CSR (Compressed Sparse Row).
+ *
+ * Características:
+ * - Los arcos salientes de v ocupan el rango [{@link #edgeStart(int)}, {@link #edgeEnd(int)})
+ *   de dos arreglos planos {@code targets}/{@code weights}, ordenados por destino.
+ * - Memoria: 8 bytes por arco más 4 bytes por vértice; sin objetos por arista.
+ * - Iteración de vecinos O(1) por paso usando los índices de arco;
+ *   {@link #isEdge(int, int)} y {@link #weight(int, int)} son O(log grado(v)).
+ * - Es de solo lectura: {@link #setEdge(int, int, int)} y {@link #deleteEdge(int, int)}
+ *   lanzan {@link UnsupportedOperationException}. Se construye con {@link #fromEdges} o {@link #copyOf}.
+ */
+public class GraphCSR implements IGraph {
+    private int numVertex;
+    private int[] offsets;
+    private int[] targets;
+    private int[] weights;
+    private int[] mark;
+    private int version;
+
+    /**
+     * Crea un grafo CSR con n vértices y sin aristas.
+     * @param n número de vértices (>0)
+     */
+    public GraphCSR(int n) {
+        init(n);
+    }
+
+    /**
+     * Envuelve arreglos ya ordenados por destino dentro de cada fila (usado por {@link GraphBuilder}).
+     */
+    GraphCSR(int n, int[] offsets, int[] targets, int[] weights) {
+        this.numVertex = n;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.mark = new int[n];
+    }
+
+    /**
+     * Construye un grafo CSR a partir de una lista de arcos dirigidos en arreglos paralelos.
+     * Los arcos con peso 0 se ignoran (equivalen a "sin arista"); si un arco (i, j)
+     * aparece repetido, prevalece la última aparición, igual que en {@link GraphM#setEdge(int, int, int)}.
+     *
+     * @param n   número de vértices
+     * @param src vértices origen
+     * @param dst vértices destino
+     * @param w   pesos
+     * @param m   número de arcos válidos en los arreglos
+     * @return grafo CSR congelado
+     */
+    public static GraphCSR fromEdges(int n, int[] src, int[] dst, int[] w, int m) {
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            checkVertex(n, src[e]);
+            checkVertex(n, dst[e]);
+            if (w[e] != 0) offsets[src[e] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        // Reparto estable por origen; cada clave guarda (destino, orden de llegada) dentro de su fila.
+        int total = offsets[n];
+        long[] keys = new long[total];
+        int[] rawWeights = new int[total];
+        int[] fill = Arrays.copyOf(offsets, n);
+        for (int e = 0; e < m; e++) {
+            if (w[e] == 0) continue;
+            int pos = fill[src[e]]++;
+            keys[pos] = ((long) dst[e] << 32) | pos;
+            rawWeights[pos] = w[e];
+        }
+
+        int[] targets = new int[total];
+        int[] weights = new int[total];
+        int[] newOffsets = new int[n + 1];
+        int out = 0;
+        for (int v = 0; v < n; v++) {
+            int start = offsets[v];
+            int end = offsets[v + 1];
+            Arrays.sort(keys, start, end);
+            for (int i = start; i < end; i++) {
+                int target = (int) (keys[i] >>> 32);
+                int weight = rawWeights[(int) keys[i]];
+                if (out > newOffsets[v] && targets[out - 1] == target) {
+                    weights[out - 1] = weight;
+                } else {
+                    targets[out] = target;
+                    weights[out] = weight;
+                    out++;
+                }
+            }
+            newOffsets[v + 1] = out;
+        }
+
+        if (out < total) {
+            targets = Arrays.copyOf(targets, out);
+            weights = Arrays.copyOf(weights, out);
+        }
+        return new GraphCSR(n, newOffsets, targets, weights);
+    }
+
+    /**
+     * Variante de {@link #fromEdges(int, int[], int[], int[], int)} que usa todos los arcos de los arreglos.
+     */
+    public static GraphCSR fromEdges(int n, int[] src, int[] dst, int[] w) {
+        return fromEdges(n, src, dst, w, src.length);
+    }
+
+    /**
+     * Crea una copia congelada en formato CSR de cualquier {@link IGraph}.
+     * Si el grafo ya es un {@link GraphCSR} se devuelve la misma instancia.
+     *
+     * @param graph grafo de origen
+     * @return grafo CSR con los mismos arcos y pesos
+     */
+    public static GraphCSR copyOf(IGraph graph) {
+        if (graph instanceof GraphCSR) return (GraphCSR) graph;
+
+        int n = graph.vertexCount();
+        EdgeCollector collector = new EdgeCollector(Math.max(16, graph.edgeCount()));
+        for (int u = 0; u < n; u++) {
+            collector.source = u;
+            graph.forEachNeighbor(u, collector);
+        }
+        return fromEdges(n, collector.src, collector.dst, collector.w, collector.size);
+    }
+
+    /**
+     * Crea el grafo transpuesto en formato CSR: por cada arco u -> v de {@code graph}
+     * contiene el arco v -> u con el mismo peso. Sirve para recorrer los vecinos de entrada
+     * (búsquedas hacia atrás) en O(1) por paso.
+     *
+     * @param graph grafo de origen
+     * @return grafo CSR transpuesto
+     */
+    public static GraphCSR transposeOf(IGraph graph) {
+        int n = graph.vertexCount();
+        EdgeCollector collector = new EdgeCollector(Math.max(16, graph.edgeCount()));
+        for (int u = 0; u < n; u++) {
+            collector.source = u;
+            graph.forEachNeighbor(u, collector);
+        }
+        return fromEdges(n, collector.dst, collector.src, collector.w, collector.size);
+    }
+
+    /**
+     * Acumula arcos (origen, destino, peso) en arreglos primitivos que crecen por duplicación.
+     */
+    private static final class EdgeCollector implements IntIntConsumer {
+        int[] src;
+        int[] dst;
+        int[] w;
+        int size;
+        int source;
+
+        EdgeCollector(int capacity) {
+            src = new int[capacity];
+            dst = new int[capacity];
+            w = new int[capacity];
+        }
+
+        @Override
+        public void accept(int target, int weight) {
+            if (size == src.length) {
+                int capacity = size * 2;
+                src = Arrays.copyOf(src, capacity);
+                dst = Arrays.copyOf(dst, capacity);
+                w = Arrays.copyOf(w, capacity);
+            }
+            src[size] = source;
+            dst[size] = target;
+            w[size] = weight;
+            size++;
+        }
+    }
+
+    private static void checkVertex(int n, int v) {
+        if (v < 0 || v >= n) {
+            throw new IllegalArgumentException("Vértice fuera de rango: " + v);
+        }
+    }
+
+    @Override
+    public void init(int n) {
+        numVertex = n;
+        offsets = new int[n + 1];
+        targets = new int[0];
+        weights = new int[0];
+        mark = new int[n];
+        version++;
+    }
+
+    @Override
+    public int vertexCount() {
+        return numVertex;
+    }
+
+    /**
+     * @return número de arcos dirigidos almacenados.
+     */
+    @Override
+    public int edgeCount() {
+        return offsets[numVertex];
+    }
+
+    /**
+     * Solo {@link #init(int)} modifica un grafo CSR.
+     */
+    @Override
+    public int version() {
+        return version;
+    }
+
+    /**
+     * @return índice del primer arco saliente de v.
+     */
+    public int edgeStart(int v) {
+        return offsets[v];
+    }
+
+    /**
+     * @return índice siguiente al último arco saliente de v.
+     */
+    public int edgeEnd(int v) {
+        return offsets[v + 1];
+    }
+
+    /**
+     * @return número de arcos salientes de v.
+     */
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /**
+     * @param e índice de arco en [0, edgeCount())
+     * @return vértice destino del arco e
+     */
+    public int edgeTarget(int e) {
+        return targets[e];
+    }
+
+    /**
+     * @param e índice de arco en [0, edgeCount())
+     * @return peso del arco e
+     */
+    public int edgeWeight(int e) {
+        return weights[e];
+    }
+
+    @Override
+    public int firstNeighbor(int v) {
+        return offsets[v] < offsets[v + 1] ? targets[offsets[v]] : numVertex;
+    }
+
+    @Override
+    public int nextNeighbor(int v, int after) {
+        int idx = Arrays.binarySearch(targets, offsets[v], offsets[v + 1], after);
+        if (idx < 0) idx = -idx - 2;
+        return idx + 1 < offsets[v + 1] ? targets[idx + 1] : numVertex;
+    }
+
+    @Override
+    public void forEachNeighbor(int v, IntIntConsumer action) {
+        for (int e = offsets[v], end = offsets[v + 1]; e < end; e++) {
+            action.accept(targets[e], weights[e]);
+        }
+    }
+
+    /**
+     * Los destinos y pesos ya están contiguos; solo se expanden los orígenes a partir de los offsets.
+     */
+    @Override
+    public EdgeList exportArcs() {
+        int m = edgeCount();
+        EdgeList edges = new EdgeList(m);
+        for (int v = 0; v < numVertex; v++) {
+            Arrays.fill(edges.src, offsets[v], offsets[v + 1], v);
+        }
+        System.arraycopy(targets, 0, edges.dst, 0, m);
+        System.arraycopy(weights, 0, edges.w, 0, m);
+        edges.size = m;
+        return edges;
+    }
+
+    @Override
+    public EdgeList exportEdges() {
+        EdgeList edges = new EdgeList(edgeCount() / 2 + 1);
+        for (int v = 0; v < numVertex; v++) {
+            int start = offsets[v];
+            int end = offsets[v + 1];
+            int e = Arrays.binarySearch(targets, start, end, v + 1);
+            for (e = e < 0 ? -e - 1 : e; e < end; e++) {
+                edges.add(v, targets[e], weights[e]);
+            }
+        }
+        return edges;
+    }
+
+    @Override
+    public void setEdge(int i, int j, int weight) {
+        throw new UnsupportedOperationException("GraphCSR es de solo lectura");
+    }
+
+    @Override
+    public void deleteEdge(int i, int j) {
+        throw new UnsupportedOperationException("GraphCSR es de solo lectura");
+    }
+
+    @Override
+    public boolean isEdge(int i, int j) {
+        return Arrays.binarySearch(targets, offsets[i], offsets[i + 1], j) >= 0;
+    }
+
+    @Override
+    public int weight(int i, int j) {
+        int idx = Arrays.binarySearch(targets, offsets[i], offsets[i + 1], j);
+        return idx >= 0 ? weights[idx] : 0;
+    }
+
+    @Override
+    @Deprecated
+    public void setMark(int v, int value) {
+        mark[v] = value;
+    }
+
+    @Override
+    @Deprecated
+    public int getMark(int v) {
+        return mark[v];
+    }
+}
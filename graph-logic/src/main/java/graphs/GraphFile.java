@@ -0,0 +1,213 @@
+package graphs;
+import interfaces.IGraph;
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32;
+
+/**
+ * Formato binario compacto de grafos con coordenadas y nombres, y su lector.
+ *
+ * Estructura (enteros como varint LEB128; los que pueden ser negativos, en zigzag):
+ * - Cabecera: firma {@code SLPG} (4 bytes), versión del formato, banderas
+ *   ({@link #FLAG_COORDINATES}, {@link #FLAG_NAMES}, {@link #FLAG_SOURCE_CHECKSUM}), la suma
+ *   CRC-32 del archivo de origen (si la bandera está presente) y V.
+ * - V registros de vértice en orden 0..V-1, cada uno con:
+ *   - x, y como diferencia respecto al vértice anterior (si hay coordenadas);
+ *   - longitud en bytes y texto UTF-8 del nombre (si hay nombres);
+ *   - grado y, por arco en orden de destino, el destino (el primero relativo al vértice,
+ *     los demás como salto desde el anterior) y el peso.
+ * En grafos viales los saltos y los pesos suelen ocupar 1-2 bytes, frente a ~35 bytes por arista
+ * en JSON. El escritor es {@link GraphFileWriter}; el lector construye el grafo directamente,
+ * sin objetos intermedios por nodo ni por arista.
+ * <p>
+ * Un archivo generado a partir de otro (p. ej. nodos.json) guarda la suma de su origen; con
+ * {@link #read(InputStream, IntFunction, long)} quien lo carga puede descartarlo si el origen cambió
+ * después de la conversión y volver a leer el origen. La versión 1 del formato no lleva esa suma.
+ */
+public class GraphFile {
+    public static final byte[] MAGIC = {'S', 'L', 'P', 'G'};
+    public static final int FORMAT_VERSION = 2;
+    public static final int FLAG_COORDINATES = 1;
+    public static final int FLAG_NAMES = 2;
+    public static final int FLAG_SOURCE_CHECKSUM = 4;
+    /** Valor de {@link #sourceChecksum} cuando el archivo no indica su origen. */
+    public static final long NO_CHECKSUM = -1;
+
+    public final IGraph graph;
+    /** Coordenadas de cada vértice, o null si el archivo no las incluye. */
+    public final int[] xs;
+    public final int[] ys;
+    /** Nombre de cada vértice, o null si el archivo no los incluye. */
+    public final String[] names;
+    /** Suma CRC-32 del archivo de origen, o {@link #NO_CHECKSUM}. */
+    public final long sourceChecksum;
+
+    public GraphFile(IGraph graph, int[] xs, int[] ys, String[] names) {
+        this(graph, xs, ys, names, NO_CHECKSUM);
+    }
+
+    public GraphFile(IGraph graph, int[] xs, int[] ys, String[] names, long sourceChecksum) {
+        this.graph = graph;
+        this.xs = xs;
+        this.ys = ys;
+        this.names = names;
+        this.sourceChecksum = sourceChecksum;
+    }
+
+    /**
+     * @return suma CRC-32 de todo el contenido de {@code in}, en [0, 2^32). No cierra el flujo.
+     */
+    public static long checksum(InputStream in) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[1 << 16];
+        for (int read; (read = in.read(buffer)) > 0; ) crc.update(buffer, 0, read);
+        return crc.getValue();
+    }
+
+    /**
+     * Lee un archivo y agrega cada arco con {@link IGraph#setEdge(int, int, int)} sobre el grafo
+     * que crea {@code factory} para V vértices (p. ej. {@code GraphM::new}, {@code GraphL::new}).
+     *
+     * @throws IOException si el flujo no tiene la firma o versión esperadas o está truncado
+     */
+    public static GraphFile read(InputStream in, IntFunction<? extends IGraph> factory) throws IOException {
+        Reader reader = new Reader(in);
+        IGraph graph = factory.apply(reader.vertexCount);
+        return reader.readBody(graph::setEdge, graph);
+    }
+
+    /**
+     * Igual que {@link #read(InputStream, IntFunction)}, pero solo si el archivo se generó a partir de
+     * un origen con suma {@code sourceChecksum} (ver {@link #checksum(InputStream)}). Si no guarda
+     * suma o es otra, devuelve null tras leer solo la cabecera.
+     */
+    public static GraphFile read(InputStream in, IntFunction<? extends IGraph> factory, long sourceChecksum)
+            throws IOException {
+        Reader reader = new Reader(in);
+        if (reader.sourceChecksum == NO_CHECKSUM || reader.sourceChecksum != sourceChecksum) return null;
+        IGraph graph = factory.apply(reader.vertexCount);
+        return reader.readBody(graph::setEdge, graph);
+    }
+
+    /**
+     * Lee un archivo directamente a un {@link GraphCSR}: los arcos se acumulan en arreglos
+     * primitivos y se congelan al final con {@link GraphCSR#fromEdges(int, int[], int[], int[], int)}.
+     */
+    public static GraphFile readCSR(InputStream in) throws IOException {
+        Reader reader = new Reader(in);
+        int[][] arcs = {new int[1024], new int[1024], new int[1024]};
+        int[] size = new int[1];
+        GraphFile partial = reader.readBody((u, v, w) -> {
+            if (size[0] == arcs[0].length) {
+                for (int i = 0; i < 3; i++) arcs[i] = Arrays.copyOf(arcs[i], size[0] * 2);
+            }
+            arcs[0][size[0]] = u;
+            arcs[1][size[0]] = v;
+            arcs[2][size[0]++] = w;
+        }, null);
+        GraphCSR graph = GraphCSR.fromEdges(reader.vertexCount, arcs[0], arcs[1], arcs[2], size[0]);
+        return new GraphFile(graph, partial.xs, partial.ys, partial.names, partial.sourceChecksum);
+    }
+
+    @FunctionalInterface
+    private interface ArcSink {
+        void arc(int u, int v, int weight);
+    }
+
+    /**
+     * Decodificador de varints sobre un búfer propio, para no pagar una llamada sincronizada por byte.
+     */
+    private static final class Reader {
+        private final InputStream in;
+        private final byte[] buffer = new byte[1 << 16];
+        private int position;
+        private int limit;
+        final int flags;
+        final long sourceChecksum;
+        final int vertexCount;
+
+        Reader(InputStream in) throws IOException {
+            this.in = in instanceof BufferedInputStream ? in : new BufferedInputStream(in, 1 << 16);
+            for (byte b : MAGIC) {
+                if (readByte() != b) throw new IOException("Formato no reconocido: falta la firma SLPG");
+            }
+            int version = readVarint();
+            if (version < 1 || version > FORMAT_VERSION) throw new IOException("Versión de formato no soportada: " + version);
+            flags = readVarint();
+            sourceChecksum = version >= 2 && (flags & FLAG_SOURCE_CHECKSUM) != 0
+                    ? readVarint() & 0xFFFFFFFFL : NO_CHECKSUM;
+            vertexCount = readVarint();
+            if (vertexCount < 0) throw new IOException("Número de vértices inválido: " + vertexCount);
+        }
+
+        GraphFile readBody(ArcSink sink, IGraph graph) throws IOException {
+            int n = vertexCount;
+            boolean coordinates = (flags & FLAG_COORDINATES) != 0;
+            boolean hasNames = (flags & FLAG_NAMES) != 0;
+            int[] xs = coordinates ? new int[n] : null;
+            int[] ys = coordinates ? new int[n] : null;
+            String[] names = hasNames ? new String[n] : null;
+            byte[] text = new byte[64];
+
+            int x = 0;
+            int y = 0;
+            for (int u = 0; u < n; u++) {
+                if (coordinates) {
+                    x += unzigzag(readVarint());
+                    y += unzigzag(readVarint());
+                    xs[u] = x;
+                    ys[u] = y;
+                }
+                if (hasNames) {
+                    int length = readVarint();
+                    if (length > text.length) text = new byte[Math.max(length, text.length * 2)];
+                    readFully(text, length);
+                    names[u] = new String(text, 0, length, StandardCharsets.UTF_8);
+                }
+                int degree = readVarint();
+                int v = u;
+                for (int k = 0; k < degree; k++) {
+                    v = k == 0 ? u + unzigzag(readVarint()) : v + readVarint();
+                    if (v < 0 || v >= n) throw new IOException("Destino fuera de rango en el vértice " + u + ": " + v);
+                    sink.arc(u, v, unzigzag(readVarint()));
+                }
+            }
+            return new GraphFile(graph, xs, ys, names, sourceChecksum);
+        }
+
+        private int readByte() throws IOException {
+            if (position == limit) {
+                limit = in.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    throw new EOFException("Archivo de grafo truncado");
+                }
+            }
+            return buffer[position++];
+        }
+
+        private int readVarint() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IOException("Varint mal formado");
+        }
+
+        private void readFully(byte[] target, int length) throws IOException {
+            for (int i = 0; i < length; i++) target[i] = (byte) readByte();
+        }
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
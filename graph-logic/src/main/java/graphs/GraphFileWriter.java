@@ -0,0 +1,168 @@
+package graphs;
+import interfaces.IGraph;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Escritor secuencial del formato binario de grafos descrito en {@link GraphFile}.
+ * <p>
+ * Los vértices se escriben en orden 0..V-1 con {@link #writeVertex}; cada uno se codifica y se
+ * envía al flujo de inmediato, de modo que la memoria usada no depende del tamaño del grafo.
+ * {@link #close()} verifica que se hayan escrito exactamente V vértices.
+ */
+public class GraphFileWriter implements Closeable {
+    private final OutputStream out;
+    private final int vertexCount;
+    private final boolean coordinates;
+    private final boolean names;
+    private int written;
+    private int lastX;
+    private int lastY;
+    private long[] row = new long[16];
+
+    /**
+     * Escribe la cabecera de un archivo sin suma de origen.
+     *
+     * @param out         flujo de destino (se cierra con el escritor)
+     * @param vertexCount número de vértices que se escribirán
+     * @param coordinates si cada vértice lleva coordenadas (x, y)
+     * @param names       si cada vértice lleva nombre
+     */
+    public GraphFileWriter(OutputStream out, int vertexCount, boolean coordinates, boolean names) throws IOException {
+        this(out, vertexCount, coordinates, names, GraphFile.NO_CHECKSUM);
+    }
+
+    /**
+     * Escribe la cabecera.
+     *
+     * @param sourceChecksum suma CRC-32 del archivo a partir del cual se genera este
+     *                       ({@link GraphFile#checksum(java.io.InputStream)}), o {@link GraphFile#NO_CHECKSUM}
+     */
+    public GraphFileWriter(OutputStream out, int vertexCount, boolean coordinates, boolean names,
+                           long sourceChecksum) throws IOException {
+        if (vertexCount < 0) throw new IllegalArgumentException("Número de vértices inválido: " + vertexCount);
+        if (sourceChecksum != GraphFile.NO_CHECKSUM && (sourceChecksum >>> 32) != 0) {
+            throw new IllegalArgumentException("Suma CRC-32 inválida: " + sourceChecksum);
+        }
+        this.out = new BufferedOutputStream(out, 1 << 16);
+        this.vertexCount = vertexCount;
+        this.coordinates = coordinates;
+        this.names = names;
+        boolean source = sourceChecksum != GraphFile.NO_CHECKSUM;
+        this.out.write(GraphFile.MAGIC);
+        writeVarint(GraphFile.FORMAT_VERSION);
+        writeVarint((coordinates ? GraphFile.FLAG_COORDINATES : 0) | (names ? GraphFile.FLAG_NAMES : 0)
+                | (source ? GraphFile.FLAG_SOURCE_CHECKSUM : 0));
+        if (source) writeVarint((int) sourceChecksum);
+        writeVarint(vertexCount);
+    }
+
+    /**
+     * Escribe un grafo completo. {@code xs}/{@code ys} y {@code names} pueden ser null si no se guardan.
+     */
+    public static void write(IGraph graph, int[] xs, int[] ys, String[] names, OutputStream out) throws IOException {
+        write(graph, xs, ys, names, GraphFile.NO_CHECKSUM, out);
+    }
+
+    /**
+     * Escribe un grafo completo generado a partir de un archivo con suma {@code sourceChecksum}.
+     */
+    public static void write(IGraph graph, int[] xs, int[] ys, String[] names, long sourceChecksum,
+                             OutputStream out) throws IOException {
+        int n = graph.vertexCount();
+        int[][] targets = {new int[16]};
+        int[][] weights = {new int[16]};
+        int[] degree = new int[1];
+        try (GraphFileWriter writer = new GraphFileWriter(out, n, xs != null && ys != null, names != null,
+                sourceChecksum)) {
+            for (int u = 0; u < n; u++) {
+                degree[0] = 0;
+                graph.forEachNeighbor(u, (v, w) -> {
+                    if (degree[0] == targets[0].length) {
+                        targets[0] = Arrays.copyOf(targets[0], degree[0] * 2);
+                        weights[0] = Arrays.copyOf(weights[0], degree[0] * 2);
+                    }
+                    targets[0][degree[0]] = v;
+                    weights[0][degree[0]++] = w;
+                });
+                writer.writeVertex(xs == null ? 0 : xs[u], ys == null ? 0 : ys[u],
+                        names == null ? null : names[u], targets[0], weights[0], degree[0]);
+            }
+        }
+    }
+
+    /**
+     * Escribe el siguiente vértice con sus arcos salientes. Los arcos pueden venir en cualquier
+     * orden; se guardan ordenados por destino.
+     *
+     * @param x       coordenada x (se ignora si el archivo no lleva coordenadas)
+     * @param y       coordenada y
+     * @param name    nombre (se ignora si el archivo no lleva nombres; null se guarda como "")
+     * @param targets destinos de los arcos
+     * @param weights pesos de los arcos
+     * @param degree  número de arcos válidos en {@code targets}/{@code weights}
+     */
+    public void writeVertex(int x, int y, String name, int[] targets, int[] weights, int degree) throws IOException {
+        if (written == vertexCount) throw new IllegalStateException("Ya se escribieron los " + vertexCount + " vértices");
+        int u = written++;
+
+        if (coordinates) {
+            writeVarint(zigzag(x - lastX));
+            writeVarint(zigzag(y - lastY));
+            lastX = x;
+            lastY = y;
+        }
+        if (names) {
+            byte[] bytes = (name == null ? "" : name).getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            out.write(bytes);
+        }
+
+        if (row.length < degree) row = new long[Math.max(degree, row.length * 2)];
+        for (int k = 0; k < degree; k++) {
+            int v = targets[k];
+            if (v < 0 || v >= vertexCount) throw new IllegalArgumentException("Vértice fuera de rango: " + v);
+            row[k] = ((long) v << 32) | (weights[k] & 0xFFFFFFFFL);
+        }
+        Arrays.sort(row, 0, degree);
+
+        writeVarint(degree);
+        int previous = u;
+        for (int k = 0; k < degree; k++) {
+            int v = (int) (row[k] >>> 32);
+            // El primer destino se guarda relativo al propio vértice y los siguientes como saltos.
+            writeVarint(k == 0 ? zigzag(v - u) : v - previous);
+            writeVarint(zigzag((int) row[k]));
+            previous = v;
+        }
+    }
+
+    /**
+     * Vacía el búfer y cierra el flujo.
+     *
+     * @throws IllegalStateException si faltan vértices por escribir
+     */
+    @Override
+    public void close() throws IOException {
+        out.close();
+        if (written != vertexCount) {
+            throw new IllegalStateException("Se escribieron " + written + " de " + vertexCount + " vértices");
+        }
+    }
+
+    private void writeVarint(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+}
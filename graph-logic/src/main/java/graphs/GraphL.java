@@ -1,6 +1,11 @@
 package graphs;
+import interfaces.EdgeList;
+import interfaces.GraphChangeListener;
 import interfaces.IGraph;
+import interfaces.IntIntConsumer;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Implementación de {@link IGraph} mediante lista de adyacencia.
@@ -14,6 +19,8 @@ public class GraphL implements IGraph {
     private LinkedList<Edge>[] adjacencylist;
     private int numVertex;
     private int numEdge;
+    private int version;
+    private final List<GraphChangeListener> listeners = new ArrayList<>();
     private int[] Mark;
     private final int UNREACHABLE = Integer.MAX_VALUE;
 
@@ -31,6 +38,7 @@ public class GraphL implements IGraph {
     public void init(int n) {
         numVertex = n;
         numEdge = 0;
+        version++;
 
         adjacencylist = new LinkedList[n];
         Mark = new int[n];
@@ -38,6 +46,7 @@ public class GraphL implements IGraph {
         for (int i = 0; i < n; i++) {
             adjacencylist[i] = new LinkedList<Edge>();
         }
+        for (GraphChangeListener listener : listeners) listener.graphReset();
     }
 
     @Override
@@ -50,6 +59,11 @@ public class GraphL implements IGraph {
         return numEdge;
     }
 
+    @Override
+    public int version() {
+        return version;
+    }
+
     @Override
     public int firstNeighbor(int v) {
         if (adjacencylist[v].isEmpty()) {
@@ -72,6 +86,38 @@ public class GraphL implements IGraph {
         return numVertex;
     }
 
+    @Override
+    public void forEachNeighbor(int v, IntIntConsumer action) {
+        for (Edge curr : adjacencylist[v]) {
+            action.accept(curr.getVert(), curr.getWeight());
+        }
+    }
+
+    /**
+     * Cada arista se guarda en ambas listas, así que hay 2 * {@link #edgeCount()} arcos.
+     */
+    @Override
+    public EdgeList exportArcs() {
+        EdgeList edges = new EdgeList(2 * numEdge);
+        for (int u = 0; u < numVertex; u++) {
+            for (Edge curr : adjacencylist[u]) {
+                edges.add(u, curr.getVert(), curr.getWeight());
+            }
+        }
+        return edges;
+    }
+
+    @Override
+    public EdgeList exportEdges() {
+        EdgeList edges = new EdgeList(numEdge);
+        for (int u = 0; u < numVertex; u++) {
+            for (Edge curr : adjacencylist[u]) {
+                if (curr.getVert() > u) edges.add(u, curr.getVert(), curr.getWeight());
+            }
+        }
+        return edges;
+    }
+
     @Override
     public void setEdge(int i, int j, int weight) {
         if (weight <= 0 || i == j)
@@ -84,14 +130,38 @@ public class GraphL implements IGraph {
         adjacencylist[i].add(new Edge(j, weight));
         adjacencylist[j].add(new Edge(i, weight));
         numEdge++;
+        version++;
+        fireEdgeChanged(i, j, 0, weight);
+        fireEdgeChanged(j, i, 0, weight);
     }
 
 
     @Override
     public void deleteEdge(int i, int j) {
+        int oldIJ = weight(i, j);
+        int oldJI = weight(j, i);
+        // Borrar una arista inexistente no cambia el grafo: no invalida cachés ni altera el conteo.
+        if (oldIJ == 0 && oldJI == 0) return;
         adjacencylist[i].removeIf(curr -> curr.getVert() == j);
         adjacencylist[j].removeIf(curr -> curr.getVert() == i);
         numEdge--;
+        version++;
+        if (oldIJ != 0) fireEdgeChanged(i, j, oldIJ, 0);
+        if (oldJI != 0) fireEdgeChanged(j, i, oldJI, 0);
+    }
+
+    @Override
+    public void addChangeListener(GraphChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(GraphChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void fireEdgeChanged(int i, int j, int oldWeight, int newWeight) {
+        for (GraphChangeListener listener : listeners) listener.edgeChanged(i, j, oldWeight, newWeight);
     }
 
 
@@ -111,11 +181,13 @@ public class GraphL implements IGraph {
     }
 
     @Override
+    @Deprecated
     public void setMark(int v, int value) {
         Mark[v] = value;
     }
 
     @Override
+    @Deprecated
     public int getMark(int v) {
         return Mark[v];
     }
@@ -1,5 +1,10 @@
 package graphs;
+import interfaces.EdgeList;
+import interfaces.GraphChangeListener;
 import interfaces.IGraph;
+import interfaces.IntIntConsumer;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Implementación de {@link IGraph} mediante matriz de adyacencia.
@@ -8,10 +13,14 @@ import interfaces.IGraph;
  * - Acceso O(1) para {@link #isEdge(int, int)} y {@link #weight(int, int)}.
  * - Coste O(V) para iterar vecinos con {@link #firstNeighbor(int)} / {@link #nextNeighbor(int, int)}.
  * - Adecuado para grafos densos; para grafos dispersos considerar {@link graphs.GraphL}.
+ * - Si los pesos caben en 16 bits, {@link graphs.GraphPackedM} ocupa menos memoria e itera
+ *   vecinos en O(V/64 + grado).
  */
 public class GraphM implements IGraph {
     private int[][] matrix;
     private int edgeCounter;
+    private int version;
+    private final List<GraphChangeListener> listeners = new ArrayList<>();
     public int[] markArray;
 
     /**
@@ -27,6 +36,8 @@ public class GraphM implements IGraph {
         markArray = new int[n];
         matrix = new int[n][n];
         edgeCounter = 0;
+        version++;
+        for (GraphChangeListener listener : listeners) listener.graphReset();
     }
 
     @Override
@@ -39,6 +50,11 @@ public class GraphM implements IGraph {
         return edgeCounter;
     }
 
+    @Override
+    public int version() {
+        return version;
+    }
+
     @Override
     public int firstNeighbor(int v) {
         for (int i = 0; i < markArray.length; i++)
@@ -55,21 +71,78 @@ public class GraphM implements IGraph {
         return markArray.length;
     }
 
+    @Override
+    public void forEachNeighbor(int v, IntIntConsumer action) {
+        int[] row = matrix[v];
+        for (int i = 0; i < row.length; i++)
+            if (row[i] != 0)
+                action.accept(i, row[i]);
+    }
+
+    /**
+     * Recorre la matriz por filas sin pasar por {@link #isEdge(int, int)}; el tamaño exacto
+     * se conoce por el contador de aristas.
+     */
+    @Override
+    public EdgeList exportArcs() {
+        EdgeList edges = new EdgeList(edgeCounter);
+        for (int i = 0; i < matrix.length; i++) {
+            int[] row = matrix[i];
+            for (int j = 0; j < row.length; j++)
+                if (row[j] != 0)
+                    edges.add(i, j, row[j]);
+        }
+        return edges;
+    }
+
+    @Override
+    public EdgeList exportEdges() {
+        EdgeList edges = new EdgeList(edgeCounter / 2 + 1);
+        for (int i = 0; i < matrix.length; i++) {
+            int[] row = matrix[i];
+            for (int j = i + 1; j < row.length; j++)
+                if (row[j] != 0)
+                    edges.add(i, j, row[j]);
+        }
+        return edges;
+    }
+
     @Override
     public void setEdge(int i, int j, int weight) {
         if (weight == 0) return;
-        if (matrix[i][j] == 0) edgeCounter++;
+        int old = matrix[i][j];
+        if (old == weight) return;
+        if (old == 0) edgeCounter++;
+        version++;
         matrix[i][j] = weight;
+        fireEdgeChanged(i, j, old, weight);
     }
 
     @Override
     public void deleteEdge(int i, int j) {
-        if (matrix[i][j] != 0) {
+        int old = matrix[i][j];
+        if (old != 0) {
             matrix[i][j] = 0;
             edgeCounter--;
+            version++;
+            fireEdgeChanged(i, j, old, 0);
         }
     }
 
+    @Override
+    public void addChangeListener(GraphChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(GraphChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void fireEdgeChanged(int i, int j, int oldWeight, int newWeight) {
+        for (GraphChangeListener listener : listeners) listener.edgeChanged(i, j, oldWeight, newWeight);
+    }
+
     @Override
     public boolean isEdge(int i, int j) {
         return matrix[i][j] != 0;
@@ -84,11 +157,13 @@ public class GraphM implements IGraph {
     }
 
     @Override
+    @Deprecated
     public void setMark(int v, int value) {
         markArray[v] = value;
     }
 
     @Override
+    @Deprecated
     public int getMark(int v) {
         return markArray[v];
     }
@@ -0,0 +1,184 @@
+package graphs;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import interfaces.IGraph;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Cargador de grafos en el esquema JSON de nodos.json con el analizador por tokens de Jackson,
+ * sin depender de Swing ni de la vista.
+ * <p>
+ * Esquema: un arreglo de objetos {@code {"nombre", "numeroNodo", "x", "y", "aristas": [{"destino", "peso"}]}}.
+ * Los vértices se numeran por su posición en el arreglo, como en la vista: {@code numeroNodo}
+ * solo sirve para resolver {@code destino}. Campos desconocidos se ignoran.
+ * <p>
+ * No se crean objetos por nodo ni por arista: cada valor se copia al leerlo a arreglos primitivos
+ * que crecen por duplicación (coordenadas, nombres y arcos con su {@code destino} sin resolver), y
+ * al final se resuelven los destinos y se construye el grafo. La memoria pico es la de esos
+ * arreglos más el grafo final. Las aristas hacia un {@code numeroNodo} inexistente se omiten con
+ * un aviso, igual que en la vista.
+ */
+public final class JsonGraphLoader {
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private JsonGraphLoader() {
+    }
+
+    /**
+     * Carga el JSON y agrega cada arco con {@link IGraph#setEdge(int, int, int)} sobre el grafo
+     * que crea {@code factory} para V vértices.
+     *
+     * @throws IOException si el JSON está mal formado o no sigue el esquema
+     */
+    public static GraphFile load(InputStream in, IntFunction<? extends IGraph> factory) throws IOException {
+        Parsed parsed = parse(in);
+        IGraph graph = factory.apply(parsed.count);
+        for (int e = 0; e < parsed.arcCount; e++) {
+            graph.setEdge(parsed.arcSource[e], parsed.arcTarget[e], parsed.arcWeight[e]);
+        }
+        return parsed.toFile(graph);
+    }
+
+    /**
+     * Carga el JSON directamente a un {@link GraphCSR}.
+     */
+    public static GraphFile loadCSR(InputStream in) throws IOException {
+        Parsed parsed = parse(in);
+        GraphCSR graph = GraphCSR.fromEdges(parsed.count, parsed.arcSource, parsed.arcTarget,
+                parsed.arcWeight, parsed.arcCount);
+        return parsed.toFile(graph);
+    }
+
+    private static Parsed parse(InputStream in) throws IOException {
+        Parsed parsed = new Parsed();
+        try (JsonParser parser = FACTORY.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Se esperaba un arreglo de nodos en " + location(parser));
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                parsed.readNode(parser);
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new IOException("Se esperaba un objeto de nodo en " + location(parser));
+            }
+        }
+        parsed.resolveTargets();
+        return parsed;
+    }
+
+    private static String location(JsonParser parser) {
+        return "línea " + parser.currentLocation().getLineNr() + ", columna " + parser.currentLocation().getColumnNr();
+    }
+
+    /**
+     * Estado acumulado durante el análisis; los arcos guardan el {@code numeroNodo} de destino
+     * hasta que se conocen todos los nodos.
+     */
+    private static final class Parsed {
+        int count;
+        int[] numbers = new int[64];
+        int[] xs = new int[64];
+        int[] ys = new int[64];
+        String[] names = new String[64];
+
+        int arcCount;
+        int[] arcSource = new int[256];
+        int[] arcTarget = new int[256];
+        int[] arcWeight = new int[256];
+
+        void readNode(JsonParser parser) throws IOException {
+            if (count == numbers.length) {
+                int capacity = count * 2;
+                numbers = Arrays.copyOf(numbers, capacity);
+                xs = Arrays.copyOf(xs, capacity);
+                ys = Arrays.copyOf(ys, capacity);
+                names = Arrays.copyOf(names, capacity);
+            }
+            int node = count++;
+            numbers[node] = node;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "nombre":
+                        names[node] = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                        break;
+                    case "numeroNodo":
+                        numbers[node] = parser.getIntValue();
+                        break;
+                    case "x":
+                        xs[node] = parser.getIntValue();
+                        break;
+                    case "y":
+                        ys[node] = parser.getIntValue();
+                        break;
+                    case "aristas":
+                        if (value == JsonToken.START_ARRAY) readArcs(parser, node);
+                        else if (value != JsonToken.VALUE_NULL) parser.skipChildren();
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        }
+
+        private void readArcs(JsonParser parser, int node) throws IOException {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                int target = 0;
+                int weight = 0;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    if (field.equals("destino")) target = parser.getIntValue();
+                    else if (field.equals("peso")) weight = parser.getIntValue();
+                    else parser.skipChildren();
+                }
+                if (arcCount == arcSource.length) {
+                    int capacity = arcCount * 2;
+                    arcSource = Arrays.copyOf(arcSource, capacity);
+                    arcTarget = Arrays.copyOf(arcTarget, capacity);
+                    arcWeight = Arrays.copyOf(arcWeight, capacity);
+                }
+                arcSource[arcCount] = node;
+                arcTarget[arcCount] = target;
+                arcWeight[arcCount++] = weight;
+            }
+        }
+
+        /**
+         * Traduce cada {@code destino} (un {@code numeroNodo}) a la posición del nodo con ese número,
+         * ordenando pares (número, posición) en lugar de usar un mapa con claves en caja.
+         */
+        void resolveTargets() {
+            long[] byNumber = new long[count];
+            for (int i = 0; i < count; i++) byNumber[i] = ((long) numbers[i] << 32) | i;
+            Arrays.sort(byNumber);
+            long[] keys = new long[count];
+            for (int i = 0; i < count; i++) keys[i] = byNumber[i] >> 32;
+
+            int kept = 0;
+            for (int e = 0; e < arcCount; e++) {
+                int idx = Arrays.binarySearch(keys, arcTarget[e]);
+                if (idx < 0) {
+                    System.err.println("Arista con destino faltante " + arcTarget[e]
+                            + " en nodo " + numbers[arcSource[e]]);
+                    continue;
+                }
+                // Con números repetidos prevalece el último nodo, como en la vista.
+                while (idx + 1 < count && keys[idx + 1] == arcTarget[e]) idx++;
+                arcSource[kept] = arcSource[e];
+                arcTarget[kept] = (int) byNumber[idx];
+                arcWeight[kept++] = arcWeight[e];
+            }
+            arcCount = kept;
+        }
+
+        GraphFile toFile(IGraph graph) {
+            return new GraphFile(graph, Arrays.copyOf(xs, count), Arrays.copyOf(ys, count), Arrays.copyOf(names, count));
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package graphs;
+import interfaces.EdgeList;
+import interfaces.IGraph;
+import interfaces.IntIntConsumer;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Implementación de solo lectura de {@link IGraph} sobre un archivo CSR binario mapeado en memoria.
+ *
+ * Características:
+ * - Apertura sin copia: {@link #open(Path)} solo lee la cabecera y mapea las secciones con
+ *   {@link FileChannel#map}; las páginas se cargan bajo demanda desde la caché del sistema operativo,
+ *   fuera del heap, y los procesos que abren el mismo archivo comparten esas páginas.
+ * - Mismo modelo que {@link GraphCSR}: arcos salientes de v en [{@link #edgeStart(int)},
+ *   {@link #edgeEnd(int)}), ordenados por destino; {@link #isEdge(int, int)} es O(log grado(v)).
+ * - {@link #init(int)}, {@link #setEdge(int, int, int)} y {@link #deleteEdge(int, int)} lanzan
+ *   {@link UnsupportedOperationException}. El archivo se genera con {@link #write(IGraph, Path)}.
+ *
+ * Formato (little-endian): cabecera de {@value #HEADER_BYTES} bytes con la firma {@code GCSR},
+ * la versión del formato, V, un campo reservado y E (long); después V+1 offsets, E destinos y
+ * E pesos, todos {@code int}. Cada sección se mapea por separado, por lo que E admite hasta
+ * {@value #MAX_ARCS} arcos.
+ * <p>
+ * Se usa {@link MappedByteBuffer} y no {@code MemorySegment} porque la API de memoria externa
+ * (FFM) sigue en vista previa en Java 21, la versión que fija el proyecto, y exigiría compilar y
+ * ejecutar con {@code --enable-preview}.
+ */
+public class MappedGraph implements IGraph {
+    public static final int MAGIC = 0x52534347; // "GCSR" en little-endian
+    public static final int FORMAT_VERSION = 1;
+    public static final int HEADER_BYTES = 24;
+    public static final int MAX_ARCS = Integer.MAX_VALUE / Integer.BYTES;
+
+    private final int numVertex;
+    private final int numArcs;
+    private final IntBuffer offsets;
+    private final IntBuffer targets;
+    private final IntBuffer weights;
+    private int[] mark;
+
+    private MappedGraph(int n, int m, IntBuffer offsets, IntBuffer targets, IntBuffer weights) {
+        this.numVertex = n;
+        this.numArcs = m;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Mapea un archivo escrito con {@link #write(IGraph, Path)}. El canal se cierra al terminar;
+     * las regiones mapeadas siguen siendo válidas hasta que el recolector las libere.
+     *
+     * @throws IOException si el archivo no existe, no tiene la firma esperada o está truncado
+     */
+    public static MappedGraph open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) throw new IOException("Archivo CSR truncado: " + file);
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != MAGIC) throw new IOException("Formato no reconocido: " + file);
+            int version = header.getInt(4);
+            if (version != FORMAT_VERSION) throw new IOException("Versión de formato no soportada: " + version);
+            int n = header.getInt(8);
+            long m = header.getLong(16);
+            if (n < 0 || m < 0 || m > MAX_ARCS) throw new IOException("Cabecera inválida: V=" + n + ", E=" + m);
+
+            long expected = HEADER_BYTES + 4L * (n + 1) + 8L * m;
+            if (size < expected) throw new IOException("Archivo CSR truncado: " + size + " < " + expected + " bytes");
+
+            long position = HEADER_BYTES;
+            IntBuffer offsets = map(channel, FileChannel.MapMode.READ_ONLY, position, n + 1L);
+            position += 4L * (n + 1);
+            IntBuffer targets = map(channel, FileChannel.MapMode.READ_ONLY, position, m);
+            position += 4L * m;
+            IntBuffer weights = map(channel, FileChannel.MapMode.READ_ONLY, position, m);
+            if (offsets.get(n) != m) throw new IOException("Offsets inconsistentes con E=" + m);
+            return new MappedGraph(n, (int) m, offsets, targets, weights);
+        }
+    }
+
+    /**
+     * Escribe {@code graph} en formato CSR binario. Las secciones se llenan directamente sobre
+     * el archivo mapeado, fila por fila, sin copiar el grafo completo al heap.
+     *
+     * @throws IOException si no se puede escribir el archivo
+     * @throws IllegalArgumentException si el grafo tiene más de {@value #MAX_ARCS} arcos
+     */
+    public static void write(IGraph graph, Path file) throws IOException {
+        int n = graph.vertexCount();
+        long m = 0;
+        int[] degree = new int[1];
+        int maxDegree = 0;
+        IntIntConsumer counter = (v, w) -> degree[0]++;
+        for (int u = 0; u < n; u++) {
+            degree[0] = 0;
+            graph.forEachNeighbor(u, counter);
+            m += degree[0];
+            maxDegree = Math.max(maxDegree, degree[0]);
+        }
+        if (m > MAX_ARCS) throw new IllegalArgumentException("Demasiados arcos para el formato CSR: " + m);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(0, MAGIC).putInt(4, FORMAT_VERSION).putInt(8, n).putInt(12, 0).putLong(16, m);
+
+            long position = HEADER_BYTES;
+            IntBuffer offsets = map(channel, FileChannel.MapMode.READ_WRITE, position, n + 1L);
+            position += 4L * (n + 1);
+            IntBuffer targets = map(channel, FileChannel.MapMode.READ_WRITE, position, m);
+            position += 4L * m;
+            IntBuffer weights = map(channel, FileChannel.MapMode.READ_WRITE, position, m);
+
+            // Cada fila se ordena por destino en un búfer del tamaño del mayor grado.
+            long[] row = new long[Math.max(1, maxDegree)];
+            int[] size = new int[1];
+            IntIntConsumer collector = (v, w) -> row[size[0]++] = ((long) v << 32) | (w & 0xFFFFFFFFL);
+            int out = 0;
+            for (int u = 0; u < n; u++) {
+                offsets.put(u, out);
+                size[0] = 0;
+                graph.forEachNeighbor(u, collector);
+                Arrays.sort(row, 0, size[0]);
+                for (int k = 0; k < size[0]; k++, out++) {
+                    targets.put(out, (int) (row[k] >>> 32));
+                    weights.put(out, (int) row[k]);
+                }
+            }
+            offsets.put(n, out);
+        }
+    }
+
+    private static IntBuffer map(FileChannel channel, FileChannel.MapMode mode, long position, long ints)
+            throws IOException {
+        return channel.map(mode, position, 4L * ints).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    @Override
+    public void init(int n) {
+        throw new UnsupportedOperationException("MappedGraph es de solo lectura");
+    }
+
+    @Override
+    public int vertexCount() {
+        return numVertex;
+    }
+
+    /**
+     * @return número de arcos dirigidos almacenados.
+     */
+    @Override
+    public int edgeCount() {
+        return numArcs;
+    }
+
+    /**
+     * El archivo mapeado no cambia: la versión es constante.
+     */
+    @Override
+    public int version() {
+        return 0;
+    }
+
+    /**
+     * @return índice del primer arco saliente de v.
+     */
+    public int edgeStart(int v) {
+        return offsets.get(v);
+    }
+
+    /**
+     * @return índice siguiente al último arco saliente de v.
+     */
+    public int edgeEnd(int v) {
+        return offsets.get(v + 1);
+    }
+
+    /**
+     * @param e índice de arco en [0, edgeCount())
+     * @return vértice destino del arco e
+     */
+    public int edgeTarget(int e) {
+        return targets.get(e);
+    }
+
+    /**
+     * @param e índice de arco en [0, edgeCount())
+     * @return peso del arco e
+     */
+    public int edgeWeight(int e) {
+        return weights.get(e);
+    }
+
+    @Override
+    public int firstNeighbor(int v) {
+        int start = offsets.get(v);
+        return start < offsets.get(v + 1) ? targets.get(start) : numVertex;
+    }
+
+    @Override
+    public int nextNeighbor(int v, int after) {
+        int idx = search(v, after);
+        if (idx < 0) idx = -idx - 2;
+        return idx + 1 < offsets.get(v + 1) ? targets.get(idx + 1) : numVertex;
+    }
+
+    @Override
+    public void forEachNeighbor(int v, IntIntConsumer action) {
+        for (int e = offsets.get(v), end = offsets.get(v + 1); e < end; e++) {
+            action.accept(targets.get(e), weights.get(e));
+        }
+    }
+
+    @Override
+    public EdgeList exportArcs() {
+        EdgeList edges = new EdgeList(numArcs);
+        for (int v = 0; v < numVertex; v++) {
+            for (int e = offsets.get(v), end = offsets.get(v + 1); e < end; e++) {
+                edges.add(v, targets.get(e), weights.get(e));
+            }
+        }
+        return edges;
+    }
+
+    @Override
+    public EdgeList exportEdges() {
+        EdgeList edges = new EdgeList(numArcs / 2 + 1);
+        for (int v = 0; v < numVertex; v++) {
+            int e = search(v, v + 1);
+            for (e = e < 0 ? -e - 1 : e; e < offsets.get(v + 1); e++) {
+                edges.add(v, targets.get(e), weights.get(e));
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Búsqueda binaria de {@code target} en la fila de v, con la convención de
+     * {@link Arrays#binarySearch(int[], int, int, int)}.
+     */
+    private int search(int v, int target) {
+        int low = offsets.get(v);
+        int high = offsets.get(v + 1) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = targets.get(mid);
+            if (value < target) low = mid + 1;
+            else if (value > target) high = mid - 1;
+            else return mid;
+        }
+        return -(low + 1);
+    }
+
+    @Override
+    public void setEdge(int i, int j, int weight) {
+        throw new UnsupportedOperationException("MappedGraph es de solo lectura");
+    }
+
+    @Override
+    public void deleteEdge(int i, int j) {
+        throw new UnsupportedOperationException("MappedGraph es de solo lectura");
+    }
+
+    @Override
+    public boolean isEdge(int i, int j) {
+        return search(i, j) >= 0;
+    }
+
+    @Override
+    public int weight(int i, int j) {
+        int idx = search(i, j);
+        return idx >= 0 ? weights.get(idx) : 0;
+    }
+
+    /**
+     * Las marcas viven en el heap y se reservan al primer uso.
+     */
+    @Override
+    @Deprecated
+    public void setMark(int v, int value) {
+        if (mark == null) mark = new int[numVertex];
+        mark[v] = value;
+    }
+
+    @Override
+    @Deprecated
+    public int getMark(int v) {
+        return mark == null ? 0 : mark[v];
+    }
+}
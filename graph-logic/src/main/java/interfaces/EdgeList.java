@@ -0,0 +1,41 @@
+package interfaces;
+
+import java.util.Arrays;
+
+/**
+ * Lista de aristas en arreglos paralelos {@code src/dst/w}, sin objetos por arista.
+ * Es el formato de {@link IGraph#exportArcs()} y {@link IGraph#exportEdges()}; solo las
+ * posiciones [0, {@link #size}) son válidas.
+ */
+public class EdgeList {
+    public int[] src;
+    public int[] dst;
+    public int[] w;
+    public int size;
+
+    /**
+     * @param capacity capacidad inicial; la lista crece por duplicación si se excede
+     */
+    public EdgeList(int capacity) {
+        capacity = Math.max(1, capacity);
+        src = new int[capacity];
+        dst = new int[capacity];
+        w = new int[capacity];
+    }
+
+    /**
+     * Agrega el arco (source, target) con peso weight.
+     */
+    public void add(int source, int target, int weight) {
+        if (size == src.length) {
+            int capacity = size * 2;
+            src = Arrays.copyOf(src, capacity);
+            dst = Arrays.copyOf(dst, capacity);
+            w = Arrays.copyOf(w, capacity);
+        }
+        src[size] = source;
+        dst[size] = target;
+        w[size] = weight;
+        size++;
+    }
+}
@@ -0,0 +1,27 @@
+package interfaces;
+
+/**
+ * Observador de cambios en las aristas de un {@link IGraph}.
+ * <p>
+ * Se notifica después de aplicar el cambio y solo si el peso del arco realmente cambió.
+ * Un peso 0 significa "sin arista", igual que en {@link IGraph}: una inserción llega como
+ * {@code oldWeight = 0} y una eliminación como {@code newWeight = 0}. Los grafos que guardan
+ * cada arista en ambos sentidos ({@code GraphL}) notifican los dos arcos por separado.
+ */
+@FunctionalInterface
+public interface GraphChangeListener {
+
+    /**
+     * @param i         vértice origen del arco
+     * @param j         vértice destino del arco
+     * @param oldWeight peso anterior (0 si el arco no existía)
+     * @param newWeight peso nuevo (0 si el arco se eliminó)
+     */
+    void edgeChanged(int i, int j, int oldWeight, int newWeight);
+
+    /**
+     * El grafo se reinició con {@link IGraph#init(int)}: todo resultado derivado es inválido.
+     */
+    default void graphReset() {
+    }
+}
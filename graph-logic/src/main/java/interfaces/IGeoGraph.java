@@ -0,0 +1,22 @@
+package interfaces;
+
+/**
+ * Grafo cuyos vértices tienen una posición en el plano (por ejemplo, la ubicación de cada
+ * localidad sobre el mapa). Las coordenadas están en unidades del mapa, no en kilómetros;
+ * la conversión a una cota inferior en kilómetros la hace quien las consume
+ * (ver {@link algorithms.engine.GeoHeuristic}).
+ */
+public interface IGeoGraph extends IGraph {
+
+    /**
+     * @param v vértice
+     * @return coordenada x del vértice en unidades del mapa
+     */
+    int x(int v);
+
+    /**
+     * @param v vértice
+     * @return coordenada y del vértice en unidades del mapa
+     */
+    int y(int v);
+}
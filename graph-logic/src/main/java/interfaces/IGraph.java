@@ -28,6 +28,16 @@ public interface IGraph {
      */
     int edgeCount();
 
+    /**
+     * Contador de modificaciones: cambia cada vez que {@link #init(int)}, {@link #setEdge(int, int, int)}
+     * o {@link #deleteEdge(int, int)} alteran las aristas. Las marcas no cuentan como modificación.
+     * Permite invalidar resultados precalculados (tablas de distancias, copias CSR...) comparando
+     * el valor guardado con el actual.
+     *
+     * @return versión actual de la estructura del grafo
+     */
+    int version();
+
     /**
      * Obtiene el primer vecino del vértice v, o V si no tiene vecinos.
      *
@@ -45,6 +55,60 @@ public interface IGraph {
      */
     int nextNeighbor(int v, int after);
 
+    /**
+     * Recorre todos los vecinos de v entregando cada par (destino, peso) a la acción,
+     * en el mismo orden que {@link #firstNeighbor(int)} / {@link #nextNeighbor(int, int)}.
+     * A diferencia de éstos, no vuelve a localizar el vecino anterior en cada paso ni
+     * requiere una llamada separada a {@link #weight(int, int)}.
+     * <p>
+     * La implementación por defecto se apoya en firstNeighbor/nextNeighbor; las
+     * implementaciones concretas la sobrescriben con un recorrido directo de su estructura.
+     *
+     * @param v      vértice de origen
+     * @param action acción invocada una vez por cada arco saliente de v
+     */
+    default void forEachNeighbor(int v, IntIntConsumer action) {
+        int n = vertexCount();
+        for (int w = firstNeighbor(v); w < n; w = nextNeighbor(v, w)) {
+            action.accept(w, weight(v, w));
+        }
+    }
+
+    /**
+     * Exporta en una sola pasada todos los arcos dirigidos u -> v del grafo, en orden de origen.
+     * <p>
+     * La implementación por defecto se apoya en {@link #forEachNeighbor(int, IntIntConsumer)};
+     * las implementaciones concretas la sobrescriben recorriendo su estructura directamente.
+     *
+     * @return arcos en arreglos primitivos
+     */
+    default EdgeList exportArcs() {
+        EdgeList edges = new EdgeList(Math.max(16, edgeCount()));
+        for (int u = 0; u < vertexCount(); u++) {
+            final int source = u;
+            forEachNeighbor(u, (v, weight) -> edges.add(source, v, weight));
+        }
+        return edges;
+    }
+
+    /**
+     * Exporta cada arista no dirigida una sola vez, como el par (u, v) con u < v, en el mismo
+     * orden que el doble ciclo {@code for i, for j > i: isEdge(i, j)} pero en O(V + E) sobre
+     * listas de adyacencia en lugar de O(V²) consultas.
+     *
+     * @return aristas (u, v, peso) con u < v en arreglos primitivos
+     */
+    default EdgeList exportEdges() {
+        EdgeList edges = new EdgeList(Math.max(16, edgeCount()));
+        for (int u = 0; u < vertexCount(); u++) {
+            final int source = u;
+            forEachNeighbor(u, (v, weight) -> {
+                if (v > source) edges.add(source, v, weight);
+            });
+        }
+        return edges;
+    }
+
     /**
      * Crea o actualiza una arista (i, j) con un peso dado.
      * Un peso 0 NO crea ni actualiza la arista; para eliminar use {@link #deleteEdge(int, int)}.
@@ -63,6 +127,23 @@ public interface IGraph {
      */
     void deleteEdge(int i, int j);
 
+    /**
+     * Registra un observador que se notifica tras cada {@link #setEdge(int, int, int)},
+     * {@link #deleteEdge(int, int)} o {@link #init(int)} que cambie el grafo.
+     * Por defecto el grafo no admite observadores (por ejemplo, si es inmutable).
+     *
+     * @throws UnsupportedOperationException si la implementación no notifica cambios
+     */
+    default void addChangeListener(GraphChangeListener listener) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " no notifica cambios");
+    }
+
+    /**
+     * Quita un observador registrado con {@link #addChangeListener(GraphChangeListener)}.
+     */
+    default void removeChangeListener(GraphChangeListener listener) {
+    }
+
     /**
      * Verifica si existe la arista (i, j).
      *
@@ -83,10 +164,16 @@ public interface IGraph {
 
     /**
      * Asigna una marca/estado para el vértice v (usado por algoritmos: WHITE/GRAY/BLACK, etc.).
+     * <p>
+     * Las marcas guardadas en el grafo impiden ejecutar dos algoritmos a la vez sobre él; los
+     * algoritmos de este proyecto usan un {@link VisitState} propio de cada ejecución.
+     *
+     * @deprecated use un {@link VisitState} por ejecución
      *
      * @param v     vértice a marcar
      * @param value valor de marca
      */
+    @Deprecated
     void setMark(int v, int value);
 
     /**
@@ -94,6 +181,8 @@ public interface IGraph {
      *
      * @param v vértice
      * @return valor de marca actual del vértice
+     * @deprecated use un {@link VisitState} por ejecución
      */
+    @Deprecated
     int getMark(int v);
 }
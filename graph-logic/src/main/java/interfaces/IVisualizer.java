@@ -13,10 +13,17 @@ public interface IVisualizer {
     IGraph getGraph();
 
     /**
-     * Reinicia visualmente el panel a su estado inicial.
+     * Reinicia visualmente el panel a su estado inicial y deja de mostrar el
+     * estado de visita de la ejecución anterior.
      */
     void resetVisuals();
 
+    /**
+     * Suscribe la vista al estado de visita de la ejecución en curso; los vértices se pintan
+     * según sus marcas hasta que se suscriba otro estado o se llame a {@link #resetVisuals()}.
+     */
+    void attachVisitState(VisitState state);
+
     /**
      * Marca una arista como visitada (para pintarla de otro color).
      */
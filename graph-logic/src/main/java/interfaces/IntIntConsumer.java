@@ -0,0 +1,15 @@
+package interfaces;
+
+/**
+ * Acción que recibe un par de enteros primitivos, sin empaquetado (boxing).
+ * Se usa para recorrer vecinos como pares (destino, peso) en {@link IGraph#forEachNeighbor(int, IntIntConsumer)}.
+ */
+@FunctionalInterface
+public interface IntIntConsumer {
+
+    /**
+     * @param target vértice destino
+     * @param weight peso del arco
+     */
+    void accept(int target, int weight);
+}
@@ -0,0 +1,69 @@
+package interfaces;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Estado de visita (WHITE/GRAY/BLACK) de una sola ejecución de un algoritmo.
+ * <p>
+ * Pertenece a la ejecución y no al grafo: varios recorridos pueden correr en paralelo sobre el
+ * mismo {@link IGraph} sin pisarse las marcas, y el grafo se puede compartir como
+ * estructura de solo lectura. La GUI se suscribe al estado de la ejecución en curso con
+ * {@link IVisualizer#attachVisitState(VisitState)} y lo lee desde el hilo de pintado
+ * mientras el algoritmo escribe desde el suyo; por eso las marcas viven en un
+ * {@link AtomicIntegerArray} (escrituras con semántica release, lecturas volátiles).
+ */
+public class VisitState {
+    public static final int WHITE = 0;
+    public static final int GRAY = 1;
+    public static final int BLACK = 2;
+
+    /** Estado vacío que no pertenece a ninguna ejecución; todos los vértices se leen como WHITE. */
+    public static final VisitState EMPTY = new VisitState(0);
+
+    private final AtomicIntegerArray marks;
+
+    /**
+     * Crea el estado de una ejecución con todos los vértices en WHITE.
+     * @param n número de vértices
+     */
+    public VisitState(int n) {
+        marks = new AtomicIntegerArray(n);
+    }
+
+    /**
+     * @return número de vértices cubiertos por este estado.
+     */
+    public int size() {
+        return marks.length();
+    }
+
+    /**
+     * @return marca de v, o WHITE si v queda fuera del estado.
+     */
+    public int get(int v) {
+        return v < marks.length() ? marks.get(v) : WHITE;
+    }
+
+    public void set(int v, int mark) {
+        marks.lazySet(v, mark);
+    }
+
+    /**
+     * Cambia la marca de v solo si vale {@code expected}; permite que varios hilos de una misma
+     * ejecución reclamen vértices sin bloqueo.
+     *
+     * @return true si este hilo hizo el cambio
+     */
+    public boolean compareAndSet(int v, int expected, int mark) {
+        return marks.compareAndSet(v, expected, mark);
+    }
+
+    /**
+     * Devuelve todos los vértices a WHITE.
+     */
+    public void reset() {
+        for (int v = 0; v < marks.length(); v++) {
+            marks.lazySet(v, WHITE);
+        }
+    }
+}
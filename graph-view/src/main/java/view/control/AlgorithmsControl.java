@@ -2,6 +2,11 @@ package view.control;
 
 import algorithms.GraphAlgorithms;
 import algorithms.GraphAlgorithms.ShortestPathResult;
+import algorithms.engine.GeoHeuristic;
+import algorithms.engine.Heuristic;
+import algorithms.engine.LandmarkHeuristic;
+import interfaces.IGeoGraph;
+import interfaces.IGraph;
 import view.MainFrame;
 import view.panels.leftPanels.ControlsPanel;
 import view.panels.leftPanels.GraphPanel;
@@ -15,6 +20,9 @@ import javax.swing.*;
 import java.lang.reflect.InvocationTargetException;
 
 public class AlgorithmsControl {
+    /** Landmarks usados por la heurística ALT de A*. */
+    private static final int LANDMARKS = 4;
+
     private final MainFrame mainFrame;
     private final GraphPanel graphPanel;
     private final ControlsPanel controlsPanel;
@@ -24,6 +32,8 @@ public class AlgorithmsControl {
     private final MSTMenuComponent mstPanel;
     private final ShortestPathComponent shortestPathComponent;
 
+    private Heuristic heuristic;
+
     public AlgorithmsControl(MainFrame mainFrame,
                              GraphPanel graphPanel,
                              ControlsPanel controlsPanel,
@@ -174,12 +184,33 @@ public class AlgorithmsControl {
                     SwingUtilities.invokeLater(() -> {
                         shortestPathComponent.setTotalDistanceText("Distancia Total: " + (finalRes.finalDistance == Integer.MAX_VALUE ? "∞" : finalRes.finalDistance));
                     });
+                } else if (shortestPathComponent.isAStarSelected()) {
+                    ShortestPathResult res = GraphAlgorithms.runAStarWithEvolution(graphPanel, startNode, endNode, getHeuristic());
+                    resultWeight = res.finalDistance;
+                    final ShortestPathResult finalRes = res;
+                    SwingUtilities.invokeLater(() -> {
+                        shortestPathComponent.setTotalDistanceText("Distancia Total: " + (finalRes.finalDistance == Integer.MAX_VALUE ? "∞" : finalRes.finalDistance));
+                    });
                 }
                 break;
         }
         return resultWeight;
     }
 
+    /**
+     * Heurística para A*: máximo entre las cotas de landmarks (ALT), que usan los pesos reales
+     * de las carreteras, y la distancia en línea recta entre localidades calibrada para ser cota
+     * inferior. Se calcula una sola vez.
+     */
+    private Heuristic getHeuristic() {
+        if (heuristic == null) {
+            IGraph graph = graphPanel.getGraph();
+            heuristic = LandmarkHeuristic.farthest(graph, LANDMARKS);
+            if (graph instanceof IGeoGraph) heuristic = heuristic.max(GeoHeuristic.calibrated((IGeoGraph) graph));
+        }
+        return heuristic;
+    }
+
     private int validateAndGetStartNode(JTextField field) {
         int maxVertices = graphPanel.getGraph().vertexCount();
         try {
@@ -3,6 +3,7 @@ package view.panels.leftPanels;
 import algorithms.GraphAlgorithms;
 import interfaces.IGraph;
 import interfaces.IVisualizer;
+import interfaces.VisitState;
 import view.styles.Colors;
 import view.styles.FontUtil;
 
@@ -22,6 +23,7 @@ public class GraphPanel extends JPanel implements IVisualizer {
     private final IGraph graph;
     private final Point[] positions;
     private boolean[][] visitedEdges;
+    private volatile VisitState visitState = VisitState.EMPTY;
     private Dimension originalMapSize = null;
 
     private boolean[] allowedNodes = null;
@@ -126,9 +128,7 @@ public class GraphPanel extends JPanel implements IVisualizer {
 
     @Override
     public void resetVisuals() {
-        for (int v = 0; v < graph.vertexCount(); v++) {
-            graph.setMark(v, GraphAlgorithms.WHITE);
-        }
+        this.visitState = VisitState.EMPTY;
         int count = graph.vertexCount();
         this.visitedEdges = new boolean[count][count];
         this.allowedNodes = null;
@@ -136,6 +136,12 @@ public class GraphPanel extends JPanel implements IVisualizer {
         repaint();
     }
 
+    @Override
+    public void attachVisitState(VisitState state) {
+        this.visitState = state == null ? VisitState.EMPTY : state;
+        repaint();
+    }
+
     @Override
     public void markEdge(int source, int destination, boolean visited) {
         if (source < 0 || destination < 0) return;
@@ -161,12 +167,12 @@ public class GraphPanel extends JPanel implements IVisualizer {
 
         while (!q.isEmpty()) {
             int u = q.poll();
-            for (int v = graph.firstNeighbor(u); v < graph.vertexCount(); v = graph.nextNeighbor(u, v)) {
+            graph.forEachNeighbor(u, (v, weight) -> {
                 if (!seen[v]) {
                     seen[v] = true;
                     q.add(v);
                 }
-            }
+            });
         }
 
         this.allowedNodes = seen;
@@ -230,6 +236,7 @@ public class GraphPanel extends JPanel implements IVisualizer {
         int[] cy = this.centerY;
         boolean[][] localVisited = this.visitedEdges;
         boolean[] allowed = this.allowedNodes;
+        VisitState marks = this.visitState;
 
         g2.setStroke(edgeStroke);
         for (int source = 0; source < n; source++) {
@@ -256,7 +263,7 @@ public class GraphPanel extends JPanel implements IVisualizer {
             Color textColor = Colors.COLOR_BUTTON.darker();
 
             if (nodeAllowed) {
-                int mark = graph.getMark(v);
+                int mark = marks.get(v);
                 if (mark == GraphAlgorithms.BLACK) {
                     fill = Colors.COLOR_BUTTON;
                     borderColor = Colors.COLOR_BUTTON.darker();
@@ -1,6 +1,9 @@
 package view.panels.leftPanels;
 
+import graphs.GeoGraph;
+import graphs.GraphFile;
 import graphs.GraphM;
+import graphs.JsonGraphLoader;
 import interfaces.IGraph;
 import javax.imageio.ImageIO;
 import javax.swing.*;
@@ -8,19 +11,18 @@ import java.awt.*;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.text.Normalizer;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonSyntaxException;
-
-import java.io.InputStreamReader;
 
 public class MapPanel extends JPanel {
     private static final String IMAGE_PATH = "/img/mapa-estado-san-luis-potosi-low-detail.png";
     private static final String NODES_JSON_PATH = "/view/control/informacionMapa/nodos.json";
+    /**
+     * Versión binaria de nodos.json generada con tools/GraphConverter; se prefiere mientras guarde
+     * la suma CRC-32 del nodos.json actual, si no se vuelve a leer el JSON.
+     */
+    private static final String NODES_BINARY_PATH = "/view/control/informacionMapa/nodos.slpg";
     private Image backgroundImage;
 
     private Dimension mapOriginalSize = null;
@@ -29,65 +31,28 @@ public class MapPanel extends JPanel {
     private final IGraph graph;
     private final GraphPanel graphPanel;
 
-    private static final class EdgeDef {
-        final int s, d, w;
-
-        EdgeDef(int s, int d, int w) {
-            this.s = s;
-            this.d = d;
-            this.w = w;
-        }
-    }
-
-    private static final class NodeInfo {
-        int numero;
-        String nombre;
-        int x, y;
-        List<EdgeDef> aristas = new ArrayList<>();
-    }
-
-    private List<NodeInfo> nodesLoaded = null;
+    /** Nombre de cada vértice del grafo cargado, o null si no se encontró el archivo de nodos. */
+    private String[] nodeNames = null;
 
     public MapPanel() {
         setOpaque(true);
         setPreferredSize(new Dimension(800, 600));
 
-        List<NodeInfo> nodes = loadNodes();
-        this.nodesLoaded = nodes;
+        GraphFile file = loadGraph();
+        if (file != null && file.graph.vertexCount() > 0) {
+            // El grafo y las coordenadas leídos se usan tal cual, sin copiarlos a otra estructura.
+            int nodeCount = file.graph.vertexCount();
+            nodeNames = file.names;
+            graph = new GeoGraph(file.graph, file.xs, file.ys);
 
-        int nodeCount;
-        if (nodes != null && !nodes.isEmpty()) {
-            int maxNum = -1;
-            for (NodeInfo ni : nodes) if (ni != null) maxNum = Math.max(maxNum, ni.numero);
-            nodeCount = Math.max(nodes.size(), maxNum + 1);
-        } else {
-            nodeCount = 24;
-        }
-
-        graph = new GraphM(nodeCount);
-
-        if (nodes != null && !nodes.isEmpty()) {
             Point[] positions = new Point[nodeCount];
-
-            for (NodeInfo ni : nodes) {
-                if (ni.numero >= 0 && ni.numero < nodeCount) {
-                    positions[ni.numero] = new Point(ni.x, ni.y);
-                    for (EdgeDef e : ni.aristas) {
-                        if (e.s >= 0 && e.s < nodeCount && e.d >= 0 && e.d < nodeCount) {
-                            graph.setEdge(e.s, e.d, e.w);
-                        } else {
-                            System.err.println("Arista fuera de rango: " + e.s + "->" + e.d + " (peso=" + e.w + ")");
-                        }
-                    }
-                } else {
-                    System.err.println("Nodo fuera de rango: " + ni.numero);
-                }
+            for (int i = 0; i < nodeCount; i++) {
+                positions[i] = new Point(file.xs[i], file.ys[i]);
             }
-
-            for (int i = 0; i < nodeCount; i++) if (positions[i] == null) positions[i] = new Point(100, 100);
-
             graphPanel = new GraphPanel(graph, positions);
         } else {
+            int nodeCount = 24;
+            graph = new GeoGraph(new GraphM(nodeCount), new int[nodeCount], new int[nodeCount]);
             System.out.println("Error: no se encontro el archivo de nodos.");
             graphPanel = new GraphPanel(graph);
         }
@@ -165,58 +130,45 @@ public class MapPanel extends JPanel {
         }
     }
 
-    private List<NodeInfo> loadNodes() {
-        InputStream in = getClass().getResourceAsStream(NODES_JSON_PATH);
-        if (in == null) return null;
-        try (InputStreamReader isr = new InputStreamReader(in, StandardCharsets.UTF_8)) {
-            Gson gson = new GsonBuilder().create();
-            NodeJson[] arr = gson.fromJson(isr, NodeJson[].class);
-            List<NodeInfo> nodes = new ArrayList<>();
-            if (arr != null) {
-                java.util.Map<Integer, Integer> numToIndex = new java.util.HashMap<>();
-                for (int i = 0; i < arr.length; i++) {
-                    numToIndex.put(arr[i].numeroNodo, i);
-                }
+    /**
+     * Carga nodos.slpg si corresponde al nodos.json actual y, si no, nodos.json.
+     *
+     * @return grafo con coordenadas y nombres, o null si no hay archivo de nodos válido
+     */
+    private GraphFile loadGraph() {
+        long jsonChecksum = GraphFile.NO_CHECKSUM;
+        InputStream json = getClass().getResourceAsStream(NODES_JSON_PATH);
+        if (json != null) {
+            try (InputStream in = json) {
+                jsonChecksum = GraphFile.checksum(in);
+            } catch (IOException e) {
+                System.err.println("No se pudo leer nodos.json: " + e.getMessage());
+            }
+        }
 
-                for (NodeJson nj : arr) {
-                    NodeInfo ni = new NodeInfo();
-                    ni.numero = numToIndex.get(nj.numeroNodo);
-                    ni.nombre = nj.nombre;
-                    ni.x = nj.x;
-                    ni.y = nj.y;
-                    if (nj.aristas != null) {
-                        for (AristaJson aj : nj.aristas) {
-                            Integer destMapped = numToIndex.get(aj.destino);
-                            if (destMapped != null) {
-                                ni.aristas.add(new EdgeDef(ni.numero, destMapped, aj.peso));
-                            } else {
-                                System.err.println("Arista con destino faltante " + aj.destino + " en nodo " + nj.numeroNodo);
-                            }
-                        }
-                    }
-                    nodes.add(ni);
+        InputStream binary = getClass().getResourceAsStream(NODES_BINARY_PATH);
+        if (binary != null) {
+            try (InputStream in = binary) {
+                GraphFile file = json == null ? GraphFile.read(in, GraphM::new) : GraphFile.read(in, GraphM::new, jsonChecksum);
+                if (file == null) {
+                    System.err.println("nodos.slpg no corresponde a nodos.json; se usará nodos.json");
+                } else if (file.xs != null && file.names != null) {
+                    return file;
                 }
+            } catch (IOException e) {
+                System.err.println("No se pudo leer nodos.slpg, se usará nodos.json: " + e.getMessage());
             }
-            return nodes;
-        } catch (IOException | JsonSyntaxException e) {
+        }
+
+        if (json == null) return null;
+        try (InputStream in = getClass().getResourceAsStream(NODES_JSON_PATH)) {
+            return JsonGraphLoader.load(in, GraphM::new);
+        } catch (IOException e) {
             System.err.println("No se pudo parsear nodos.json: " + e.getMessage());
             return null;
         }
     }
 
-    private static final class NodeJson {
-        String nombre;
-        int numeroNodo;
-        int x;
-        int y;
-        AristaJson[] aristas;
-    }
-
-    private static final class AristaJson {
-        int destino;
-        int peso;
-    }
-
     public static final class NodeSummary {
         private final String nombre;
         private final int numeroNodo;
@@ -234,39 +186,34 @@ public class MapPanel extends JPanel {
     }
 
     public java.util.List<NodeSummary> getNodeSummaries() {
-        if (nodesLoaded == null || nodesLoaded.isEmpty()) return null;
-        java.util.Map<Integer, String> numToName = new java.util.HashMap<>();
-        for (NodeInfo ni : nodesLoaded) {
-            numToName.put(ni.numero, ni.nombre);
-        }
-
-        java.util.List<NodeSummary> out = new ArrayList<>();
-        for (NodeInfo ni : nodesLoaded) {
+        if (nodeNames == null || nodeNames.length == 0) return null;
+        java.util.List<NodeSummary> out = new ArrayList<>(nodeNames.length);
+        for (int i = 0; i < nodeNames.length; i++) {
             java.util.List<String> conns = new ArrayList<>();
-            for (EdgeDef e : ni.aristas) {
-                String destName = numToName.get(e.d);
-                if (destName != null) conns.add(destName + " (" + e.d + ")");
-                else conns.add(String.valueOf(e.d));
-            }
-            out.add(new NodeSummary(ni.nombre, ni.numero, conns));
+            graph.forEachNeighbor(i, (d, w) -> {
+                String destName = nodeNames[d];
+                if (destName != null) conns.add(destName + " (" + d + ")");
+                else conns.add(String.valueOf(d));
+            });
+            out.add(new NodeSummary(nodeNames[i], i, conns));
         }
         return out;
     }
 
     public int findNodeByName(String nombre) {
-        if (nombre == null || nodesLoaded == null) return -1;
+        if (nombre == null || nodeNames == null) return -1;
         String q = normalize(nombre);
         if (q.isEmpty()) return -1;
 
-        for (NodeInfo ni : nodesLoaded) {
-            if (ni == null || ni.nombre == null) continue;
-            if (normalize(ni.nombre).equals(q)) return ni.numero;
+        for (int i = 0; i < nodeNames.length; i++) {
+            if (nodeNames[i] == null) continue;
+            if (normalize(nodeNames[i]).equals(q)) return i;
         }
 
         String[] qTokens = q.split("\\s+");
-        for (NodeInfo ni : nodesLoaded) {
-            if (ni == null || ni.nombre == null) continue;
-            String normName = normalize(ni.nombre);
+        for (int i = 0; i < nodeNames.length; i++) {
+            if (nodeNames[i] == null) continue;
+            String normName = normalize(nodeNames[i]);
             boolean all = true;
             for (String t : qTokens) {
                 if (!normName.contains(t)) {
@@ -274,12 +221,12 @@ public class MapPanel extends JPanel {
                     break;
                 }
             }
-            if (all) return ni.numero;
+            if (all) return i;
         }
 
-        for (NodeInfo ni : nodesLoaded) {
-            if (ni == null || ni.nombre == null) continue;
-            if (normalize(ni.nombre).contains(q)) return ni.numero;
+        for (int i = 0; i < nodeNames.length; i++) {
+            if (nodeNames[i] == null) continue;
+            if (normalize(nodeNames[i]).contains(q)) return i;
         }
 
         return -1;
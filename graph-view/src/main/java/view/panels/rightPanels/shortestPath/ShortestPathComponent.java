@@ -16,6 +16,7 @@ public class ShortestPathComponent extends JPanel {
 
     private CustomRadioButton rbtn1;
     private CustomRadioButton rbtn2;
+    private CustomRadioButton rbtn3;
 
     private JLabel lbl1;
     private JLabel totalDistanceLbl;
@@ -65,10 +66,12 @@ public class ShortestPathComponent extends JPanel {
 
         rbtn1 = new CustomRadioButton("Bellman-Ford");
         rbtn2 = new CustomRadioButton("Dijkstra");
+        rbtn3 = new CustomRadioButton("A*");
 
         buttonGroup = new ButtonGroup();
         buttonGroup.add(rbtn1);
         buttonGroup.add(rbtn2);
+        buttonGroup.add(rbtn3);
 
         lbl1 = new JLabel("Iniciar el recorrido en:");
         lbl1.setFont(FontUtil.loadFont(18, "Inter_Regular"));
@@ -85,6 +88,7 @@ public class ShortestPathComponent extends JPanel {
         titlePanel.add(titleLbL);
         p1.add(rbtn1);
         p1.add(rbtn2);
+        p1.add(rbtn3);
         p2.add(lbl1);
         p3.add(textFieldOrigen);
         p3.add(textFieldDestino);
@@ -118,6 +122,10 @@ public class ShortestPathComponent extends JPanel {
             totalDistanceLbl.setText("Complejidad Temporal: O(E + V log V)");
         });
 
+        rbtn3.addActionListener(ev -> {
+            totalDistanceLbl.setText("Complejidad Temporal: O(E + V log V), expande menos nodos");
+        });
+
         p4.add(scroll, BorderLayout.CENTER);
         p4.add(southPanel, BorderLayout.SOUTH);
 
@@ -148,6 +156,10 @@ public class ShortestPathComponent extends JPanel {
         return  rbtn2.isSelected();
     }
 
+    public boolean isAStarSelected() {
+        return  rbtn3.isSelected();
+    }
+
     public void setTotalDistanceText(String text) {
         SwingUtilities.invokeLater(() -> totalDistanceLbl.setText(text));
     }
@@ -0,0 +1,73 @@
+import graphs.GraphFile;
+import graphs.GraphFileWriter;
+import graphs.GraphM;
+import graphs.JsonGraphLoader;
+import interfaces.EdgeList;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Convierte nodos.json (el formato de MapPanel) al formato binario de {@link GraphFile}.
+ * El JSON se lee con {@link JsonGraphLoader}, el mismo cargador que usa MapPanel cuando no hay
+ * binario, así que ambos caminos producen el mismo grafo (vértices numerados por su posición en
+ * el arreglo JSON).
+ * El binario guarda la suma CRC-32 del JSON para que MapPanel lo descarte si el JSON cambia
+ * después; hay que volver a ejecutar el convertidor tras editar nodos.json.
+ * Tras escribir, relee el archivo y compara aristas, coordenadas y nombres con el JSON.
+ * Uso: java -cp graph-logic/target/classes:jackson-core.jar:tools GraphConverter nodos.json nodos.slpg
+ */
+public class GraphConverter {
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: java GraphConverter <nodos.json> <salida.slpg>");
+            System.exit(1);
+        }
+        Path input = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+
+        GraphFile json;
+        long checksum;
+        try (InputStream in = Files.newInputStream(input)) {
+            json = JsonGraphLoader.load(in, GraphM::new);
+        }
+        try (InputStream in = Files.newInputStream(input)) {
+            checksum = GraphFile.checksum(in);
+        }
+        try (OutputStream out = Files.newOutputStream(output)) {
+            GraphFileWriter.write(json.graph, json.xs, json.ys, json.names, checksum, out);
+        }
+
+        GraphFile check;
+        try (InputStream in = Files.newInputStream(output)) {
+            check = GraphFile.read(in, GraphM::new, checksum);
+        }
+        if (check == null) throw new IllegalStateException("La suma del JSON no coincide tras releer");
+        int n = json.graph.vertexCount();
+        if (check.graph.vertexCount() != n || !Arrays.equals(check.xs, json.xs) || !Arrays.equals(check.ys, json.ys)) {
+            throw new IllegalStateException("Los vértices no coinciden tras releer");
+        }
+        for (int i = 0; i < n; i++) {
+            String name = json.names[i] == null ? "" : json.names[i];
+            if (!check.names[i].equals(name)) {
+                throw new IllegalStateException("El nombre del vértice " + i + " no coincide tras releer");
+            }
+        }
+        EdgeList arcs = json.graph.exportArcs();
+        if (check.graph.edgeCount() != arcs.size) {
+            throw new IllegalStateException("El número de arcos no coincide tras releer");
+        }
+        for (int e = 0; e < arcs.size; e++) {
+            if (check.graph.weight(arcs.src[e], arcs.dst[e]) != arcs.w[e]) {
+                throw new IllegalStateException("La arista " + arcs.src[e] + " -> " + arcs.dst[e] + " no coincide tras releer");
+            }
+        }
+        System.out.println(n + " vértices, " + arcs.size + " arcos: " + Files.size(input) + " bytes JSON -> "
+                + Files.size(output) + " bytes binario");
+    }
+}
@@ -0,0 +1,94 @@
+import algorithms.engine.EdgeSort;
+import algorithms.engine.PackedKeys;
+import algorithms.mst.EdgeContext;
+import algorithms.mst.UnionFind;
+import graphs.GraphCSR;
+import interfaces.EdgeList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compara las fases de ordenamiento y union-find de Kruskal con tres estrategias:
+ * List&lt;EdgeContext&gt; + Collections.sort (ruta original), claves long + Arrays.sort y EdgeSort.
+ * Uso: java -cp graph-logic/target/classes:tools KruskalBenchmark [lado] [pesoMaximo] [repeticiones]
+ */
+public class KruskalBenchmark {
+    public static void main(String[] args) {
+        int side = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int maxWeight = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int reps = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        int n = side * side;
+        EdgeList edges = gridEdges(side, maxWeight, new Random(42));
+        System.out.println("Vértices: " + n + ", aristas: " + edges.size + ", peso máximo: " + maxWeight);
+
+        for (int r = 0; r <= reps; r++) {
+            boolean warmup = r == 0;
+            long t0 = System.nanoTime();
+            List<EdgeContext> list = new ArrayList<>(edges.size);
+            for (int e = 0; e < edges.size; e++) list.add(new EdgeContext(edges.src[e], edges.dst[e], edges.w[e]));
+            Collections.sort(list);
+            long t1 = System.nanoTime();
+            long weightList = 0;
+            UnionFind uf = new UnionFind(n);
+            for (EdgeContext edge : list) if (uf.union(edge.source, edge.dest)) weightList += edge.weight;
+            long t2 = System.nanoTime();
+
+            long[] keys = new long[edges.size];
+            for (int e = 0; e < edges.size; e++) keys[e] = PackedKeys.pack(edges.w[e], e);
+            Arrays.sort(keys);
+            long t3 = System.nanoTime();
+            long weightKeys = 0;
+            uf = new UnionFind(n);
+            for (long key : keys) {
+                int e = PackedKeys.value(key);
+                if (uf.union(edges.src[e], edges.dst[e])) weightKeys += edges.w[e];
+            }
+            long t4 = System.nanoTime();
+
+            int[] order = EdgeSort.byWeight(edges.w, edges.size);
+            long t5 = System.nanoTime();
+            long weightRadix = 0;
+            uf = new UnionFind(n);
+            for (int e : order) if (uf.union(edges.src[e], edges.dst[e])) weightRadix += edges.w[e];
+            long t6 = System.nanoTime();
+
+            if (weightList != weightKeys || weightKeys != weightRadix) {
+                throw new IllegalStateException("Pesos distintos: " + weightList + " " + weightKeys + " " + weightRadix);
+            }
+            if (!warmup) {
+                System.out.printf("EdgeContext: orden %.1f ms, union-find %.1f ms | long[]: orden %.1f ms, union-find %.1f ms | EdgeSort: orden %.1f ms, union-find %.1f ms%n",
+                        ms(t1 - t0), ms(t2 - t1), ms(t3 - t2), ms(t4 - t3), ms(t5 - t4), ms(t6 - t5));
+            }
+        }
+    }
+
+    /**
+     * Malla de side x side vértices con aristas horizontales y verticales de peso aleatorio.
+     */
+    private static EdgeList gridEdges(int side, int maxWeight, Random random) {
+        int n = side * side;
+        int[] src = new int[4 * n];
+        int[] dst = new int[4 * n];
+        int[] w = new int[4 * n];
+        int m = 0;
+        for (int v = 0; v < n; v++) {
+            int[] next = {v % side + 1 < side ? v + 1 : -1, v + side < n ? v + side : -1};
+            for (int u : next) {
+                if (u < 0) continue;
+                int weight = 1 + random.nextInt(maxWeight);
+                src[m] = v; dst[m] = u; w[m++] = weight;
+                src[m] = u; dst[m] = v; w[m++] = weight;
+            }
+        }
+        return GraphCSR.fromEdges(n, src, dst, w, m).exportEdges();
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1e6;
+    }
+}
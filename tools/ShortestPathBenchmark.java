@@ -0,0 +1,79 @@
+import algorithms.engine.DijkstraSearch;
+import algorithms.engine.GraphEngine;
+import algorithms.engine.LongDijkstraSearch;
+import graphs.GraphCSR;
+
+import java.util.Random;
+
+/**
+ * Compara Dijkstra con distancias int ({@link DijkstraSearch}) y long ({@link LongDijkstraSearch})
+ * sobre mallas de varios tamaños, para elegir el modo por tamaño de grafo.
+ * Con pesos grandes (p. ej. metros) la variante int descarta las rutas que desbordarían;
+ * en ese caso se indica cuántos vértices quedaron fuera de su alcance.
+ * Uso: java -cp graph-logic/target/classes:tools ShortestPathBenchmark [pesoMaximo] [consultas] [lado...]
+ */
+public class ShortestPathBenchmark {
+    public static void main(String[] args) {
+        int maxWeight = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int[] sides = {100, 300, 700};
+        if (args.length > 2) {
+            sides = new int[args.length - 2];
+            for (int i = 2; i < args.length; i++) sides[i - 2] = Integer.parseInt(args[i]);
+        }
+
+        for (int side : sides) {
+            GraphCSR graph = grid(side, maxWeight, new Random(42));
+            int n = graph.vertexCount();
+            DijkstraSearch intSearch = new DijkstraSearch(n);
+            LongDijkstraSearch longSearch = new LongDijkstraSearch(n);
+            Random random = new Random(7);
+            int[] sources = new int[queries];
+            for (int q = 0; q < queries; q++) sources[q] = random.nextInt(n);
+
+            for (int warmup = 0; warmup < 2; warmup++) {
+                intSearch.run(graph, sources[0], -1);
+                longSearch.run(graph, sources[0], -1);
+            }
+
+            long t0 = System.nanoTime();
+            for (int s : sources) intSearch.run(graph, s, -1);
+            long t1 = System.nanoTime();
+            for (int s : sources) longSearch.run(graph, s, -1);
+            long t2 = System.nanoTime();
+
+            int lost = 0;
+            for (int v = 0; v < n; v++) {
+                if (intSearch.distance(v) == Integer.MAX_VALUE && longSearch.distance(v) != Long.MAX_VALUE) lost++;
+            }
+            System.out.printf("V=%d E=%d requiereLong=%b | int: %.2f ms/consulta | long: %.2f ms/consulta | vértices perdidos en int: %d%n",
+                    n, graph.edgeCount(), GraphEngine.requiresLongDistances(graph),
+                    ms(t1 - t0) / queries, ms(t2 - t1) / queries, lost);
+        }
+    }
+
+    /**
+     * Malla no dirigida de side x side vértices con pesos aleatorios en [1, maxWeight].
+     */
+    private static GraphCSR grid(int side, int maxWeight, Random random) {
+        int n = side * side;
+        int[] src = new int[4 * n];
+        int[] dst = new int[4 * n];
+        int[] w = new int[4 * n];
+        int m = 0;
+        for (int v = 0; v < n; v++) {
+            int[] next = {v % side + 1 < side ? v + 1 : -1, v + side < n ? v + side : -1};
+            for (int u : next) {
+                if (u < 0) continue;
+                int weight = 1 + random.nextInt(maxWeight);
+                src[m] = v; dst[m] = u; w[m++] = weight;
+                src[m] = u; dst[m] = v; w[m++] = weight;
+            }
+        }
+        return GraphCSR.fromEdges(n, src, dst, w, m);
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1e6;
+    }
+}